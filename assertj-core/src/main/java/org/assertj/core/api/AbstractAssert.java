@@ -104,6 +104,9 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   // = ConfigurationProvider.CONFIGURATION_PROVIDER.representation(); ?
   static Representation customRepresentation = null;
 
+  // stateless, shared by all assertions to make their creation cheap
+  private static final AssertionErrorCreator ASSERTION_ERROR_CREATOR = new AssertionErrorCreator();
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   AssertionErrorCreator assertionErrorCreator;
 
@@ -139,7 +142,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
     myself = (SELF) selfType.cast(this);
     this.actual = actual;
     info = new WritableAssertionInfo(customRepresentation);
-    assertionErrorCreator = new AssertionErrorCreator();
+    assertionErrorCreator = ASSERTION_ERROR_CREATOR;
   }
 
   /**
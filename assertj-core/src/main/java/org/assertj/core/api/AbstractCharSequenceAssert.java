@@ -45,6 +45,7 @@ import java.util.regex.Pattern;
 
 import org.assertj.core.annotation.CheckReturnValue;
 import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.internal.PatternCache;
 import org.assertj.core.internal.Strings;
 
 /**
@@ -65,6 +66,13 @@ import org.assertj.core.internal.Strings;
 public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequenceAssert<SELF, ACTUAL>, ACTUAL extends CharSequence>
     extends AbstractAssertWithComparator<SELF, ACTUAL> implements EnumerableAssert<SELF, Character> {
 
+  private static final Pattern ALPHABETIC = Pattern.compile("\\p{Alpha}+");
+  private static final Pattern ALPHANUMERIC = Pattern.compile("\\p{Alnum}+");
+  private static final Pattern ASCII = Pattern.compile("\\p{ASCII}+");
+  private static final Pattern HEXADECIMAL = Pattern.compile("\\p{XDigit}+");
+  private static final Pattern PRINTABLE = Pattern.compile("\\p{Print}+");
+  private static final Pattern VISIBLE = Pattern.compile("\\p{Graph}+");
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   Strings strings = Strings.instance();
 
@@ -1305,7 +1313,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
    * @throws AssertionError       if the actual {@code CharSequence} does not match the given regular expression.
    */
   public SELF matchesSatisfying(CharSequence regex, Consumer<Matcher> matchSatisfies) {
-    return matchesSatisfying(Pattern.compile(regex.toString()), matchSatisfies);
+    return matchesSatisfying(PatternCache.compile(regex.toString()), matchSatisfies);
   }
 
   /**
@@ -1692,7 +1700,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
    * @throws AssertionError       if the given regular expression cannot be found in the actual {@code CharSequence}.
    */
   public SELF containsPatternSatisfying(CharSequence regex, Consumer<Matcher> matchSatisfies) {
-    return containsPatternSatisfying(Pattern.compile(regex.toString()), matchSatisfies);
+    return containsPatternSatisfying(PatternCache.compile(regex.toString()), matchSatisfies);
   }
 
   /**
@@ -1920,7 +1928,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isAlphabetic() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{Alpha}+", actual)) throwAssertionError(shouldBeAlphabetic(actual));
+      if (!ALPHABETIC.matcher(actual).matches()) throwAssertionError(shouldBeAlphabetic(actual));
     });
   }
 
@@ -1947,7 +1955,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isAlphanumeric() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{Alnum}+", actual)) throwAssertionError(shouldBeAlphanumeric(actual));
+      if (!ALPHANUMERIC.matcher(actual).matches()) throwAssertionError(shouldBeAlphanumeric(actual));
     });
   }
 
@@ -1974,7 +1982,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isASCII() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{ASCII}+", actual)) throwAssertionError(shouldBeASCII(actual));
+      if (!ASCII.matcher(actual).matches()) throwAssertionError(shouldBeASCII(actual));
     });
   }
 
@@ -2001,7 +2009,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isHexadecimal() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{XDigit}+", actual)) throwAssertionError(shouldBeHexadecimal(actual));
+      if (!HEXADECIMAL.matcher(actual).matches()) throwAssertionError(shouldBeHexadecimal(actual));
     });
   }
 
@@ -2029,7 +2037,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isPrintable() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{Print}+", actual)) throwAssertionError(shouldBePrintable(actual));
+      if (!PRINTABLE.matcher(actual).matches()) throwAssertionError(shouldBePrintable(actual));
     });
   }
 
@@ -2056,7 +2064,7 @@ public abstract class AbstractCharSequenceAssert<SELF extends AbstractCharSequen
   public SELF isVisible() {
     return executeAssertion(() -> {
       isNotNull();
-      if (!Pattern.matches("\\p{Graph}+", actual)) throwAssertionError(shouldBeVisible(actual));
+      if (!VISIBLE.matcher(actual).matches()) throwAssertionError(shouldBeVisible(actual));
     });
   }
 
@@ -16,7 +16,6 @@
 package org.assertj.core.api;
 
 import static java.lang.String.format;
-import static java.time.ZoneId.systemDefault;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
@@ -25,13 +24,9 @@ import static org.assertj.core.util.Lists.list;
 
 import java.sql.Timestamp;
 import java.text.DateFormat;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeParseException;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
@@ -45,6 +40,7 @@ import org.assertj.core.annotation.CheckReturnValue;
 import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.configuration.ConfigurationProvider;
 import org.assertj.core.internal.Dates;
+import org.assertj.core.internal.DefaultDateParser;
 
 /**
  * Base class for all implementations of assertions for {@link Date}s.
@@ -72,16 +68,6 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
   private static final String DATE_FORMAT_PATTERN_SHOULD_NOT_BE_NULL = "Given date format pattern should not be null";
   private static final String DATE_FORMAT_SHOULD_NOT_BE_NULL = "Given date format should not be null";
 
-  private static final List<Function<String, Date>> DEFAULT_DATE_PARSERS = list(s -> Date.from(OffsetDateTime.parse(s)
-                                                                                                             .toInstant()),
-                                                                                s -> Date.from(LocalDateTime.parse(s)
-                                                                                                            .atZone(systemDefault())
-                                                                                                            .toInstant()),
-                                                                                s -> Date.from(LocalDate.parse(s)
-                                                                                                        .atStartOfDay(systemDefault())
-                                                                                                        .toInstant()),
-                                                                                s -> new Date(Timestamp.valueOf(s).getTime()));
-
   static final List<String> DEFAULT_DATE_PARSERS_REPRESENTATION = list("yyyy-MM-dd'T'HH:mm:ss.SSSX",
                                                                        "yyyy-MM-dd'T'HH:mm:ss.SSS",
                                                                        "yyyy-MM-dd HH:mm:ss.SSS",
@@ -2590,7 +2576,7 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
   }
 
   /**
-   * Thread safe utility method to parse a Date with {@link #userDateFormats} first, then {@link #DEFAULT_DATE_PARSERS}.
+   * Thread safe utility method to parse a Date with {@link #userDateFormats} first, then {@link DefaultDateParser}.
    * <p>
    * Returns <code>null</code> if dateAsString parameter is <code>null</code>.
    *
@@ -2625,29 +2611,14 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
 
   private Date parseDateWithDefaultDateParsers(final String dateAsString) {
     // try from more specific to less specific ISO formats, then try timestamp
-    return parseDateWithDateParsers(dateAsString, DEFAULT_DATE_PARSERS);
-  }
-
-  private Date parseDateWithDateParsers(final String dateAsString, final Collection<Function<String, Date>> dateParsers) {
-    for (Function<String, Date> dateParser : dateParsers) {
-      try {
-        return dateParser.apply(dateAsString);
-      } catch (@SuppressWarnings("unused") DateTimeParseException e) {
-        // ignore and try next date format
-      } catch (@SuppressWarnings("unused") IllegalArgumentException e) {
-        // ignore (it's from Timestamp.valueOf)
-      }
-    }
-    return null;
+    return DefaultDateParser.parse(dateAsString);
   }
 
   private Date parseDateWith(final String dateAsString, final Collection<DateFormat> dateFormats) {
-    for (DateFormat defaultDateFormat : dateFormats) {
-      try {
-        return defaultDateFormat.parse(dateAsString);
-      } catch (@SuppressWarnings("unused") ParseException e) {
-        // ignore and try next date format
-      }
+    for (DateFormat dateFormat : dateFormats) {
+      // same as DateFormat.parse(String) without throwing a ParseException when the date format does not match
+      Date date = dateFormat.parse(dateAsString, new ParsePosition(0));
+      if (date != null) return date;
     }
     return null;
   }
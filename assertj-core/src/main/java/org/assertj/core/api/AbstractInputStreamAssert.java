@@ -25,13 +25,16 @@ import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.assertj.core.internal.Digests.digestDiff;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -121,6 +124,92 @@ public abstract class AbstractInputStreamAssert<SELF extends AbstractInputStream
     }
   }
 
+  /**
+   * Converts the content of the actual {@link InputStream} to a list of lines by decoding its bytes using the
+   * {@link Charset#defaultCharset() default charset} and returns assertions for the computed list allowing list specific
+   * assertions from this call.
+   * <p>
+   * Lines are separated by {@code '\n'}, {@code '\r'} or {@code "\r\n"} which are not part of the lines.
+   * <p>
+   * <b>Warning: all the lines are held in memory, which takes at least as much memory as {@link #asString()}, this is not
+   * suited to streams too large to fit in memory. This will also consume the whole input stream in case the underlying
+   * implementation does not support {@link InputStream#markSupported() marking}.</b>
+   * <p>
+   * Example :
+   * <pre><code class='java'> InputStream inputStream = new ByteArrayInputStream("Frodo\nSam\nPippin".getBytes());
+   *
+   * // assertion succeeds
+   * assertThat(inputStream).asLines()
+   *                        .hasSize(3)
+   *                        .contains("Sam");
+   *
+   * // assertion fails
+   * assertThat(inputStream).asLines()
+   *                        .contains("Sauron");</code></pre>
+   *
+   * @return a list assertion object.
+   * @throws AssertionError       if the actual {@code InputStream} is {@code null}.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public AbstractListAssert<?, List<? extends String>, String, ObjectAssert<String>> asLines() {
+    return asLines(Charset.defaultCharset());
+  }
+
+  /**
+   * Converts the content of the actual {@link InputStream} to a list of lines by decoding its bytes using the given charset
+   * and returns assertions for the computed list allowing list specific assertions from this call.
+   * <p>
+   * Lines are separated by {@code '\n'}, {@code '\r'} or {@code "\r\n"} which are not part of the lines.
+   * <p>
+   * <b>Warning: all the lines are held in memory, which takes at least as much memory as {@link #asString()}, this is not
+   * suited to streams too large to fit in memory. This will also consume the whole input stream in case the underlying
+   * implementation does not support {@link InputStream#markSupported() marking}.</b>
+   * <p>
+   * Example :
+   * <pre><code class='java'> InputStream inputStream = new ByteArrayInputStream("Frodo\nSam\nPippin".getBytes(UTF_8));
+   *
+   * // assertion succeeds
+   * assertThat(inputStream).asLines(UTF_8)
+   *                        .containsExactly("Frodo", "Sam", "Pippin");
+   *
+   * // assertion fails
+   * assertThat(inputStream).asLines(UTF_8)
+   *                        .containsExactly("Frodo", "Sam");</code></pre>
+   *
+   * @param charset the {@link Charset} to interpret the {@code InputStream}'s content to lines
+   * @return a list assertion object.
+   * @throws NullPointerException if the given {@code Charset} is {@code null}.
+   * @throws AssertionError       if the actual {@code InputStream} is {@code null}.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public AbstractListAssert<?, List<? extends String>, String, ObjectAssert<String>> asLines(Charset charset) {
+    return executeAssertionNavigation(() -> {
+      isNotNull();
+      return assertThat(linesOf(actual, charset)).withAssertionState(myself);
+    }, ListAssert::nullListAssert);
+  }
+
+  private static List<String> linesOf(InputStream actual, Charset charset) {
+    requireNonNull(charset, shouldNotBeNull("charset")::create);
+    return wrapWithMarkAndReset(actual, () -> {
+      // the reader is not closed as it would close the actual stream
+      BufferedReader reader = new BufferedReader(new InputStreamReader(actual, charset));
+      try {
+        List<String> lines = new ArrayList<>();
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+          lines.add(line);
+        }
+        return lines;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
   /**
    * Verifies that the content of the actual {@code InputStream} is equal to the content of the given one.
    * <p>
@@ -286,6 +375,9 @@ public abstract class AbstractInputStreamAssert<SELF extends AbstractInputStream
    * <b>Warning: this will consume the whole input stream in case the underlying
    * implementation does not support {@link InputStream#markSupported() marking}.</b>
    * <p>
+   * The content is compared by chunks of 8 KB, when it differs such a stream is consumed up to the end of the chunk
+   * holding the first difference and not only up to the differing byte.
+   * <p>
    * Example:
    * <pre><code class='java'> InputStream inputStream = new ByteArrayInputStream(new byte[] {1, 2});
    *
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.comparingLong;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An {@link AssertionErrorCollector} meant to be used by soft assertions shared by many threads, for example with
+ * {@code parallelStream().forEach(element -> softly.assertThat(element)...)} or with virtual threads.
+ * <p>
+ * Instead of adding errors to a single synchronized list, each thread appends errors to one of several lock-free buffers
+ * picked from the thread identity. Errors are tagged with a sequence number when collected and the buffers are merged
+ * in that order when {@link #assertionErrorsCollected()} is called, the collected errors are thus reported in the order
+ * they were collected.
+ * <p>
+ * To use it with {@link SoftAssertions}, set it as the soft assertions delegate:
+ * <pre><code class='java'> SoftAssertions softly = new SoftAssertions();
+ * softly.setDelegate(new ConcurrentAssertionErrorCollector());
+ * elements.parallelStream().forEach(element -&gt; softly.assertThat(element).isPositive());
+ * softly.assertAll();</code></pre>
+ * <p>
+ * {@link org.assertj.core.api.junit.jupiter.SoftAssertionsExtension SoftAssertionsExtension} uses it when the
+ * {@value org.assertj.core.api.junit.jupiter.SoftAssertionsExtension#CONCURRENT_ERROR_COLLECTOR_PARAMETER} configuration
+ * parameter is set to {@code true}.
+ * <p>
+ * Errors collected while {@link #assertionErrorsCollected()} is called may or may not be part of the returned errors.
+ *
+ * @since 4.0.0
+ */
+public class ConcurrentAssertionErrorCollector implements AssertionErrorCollector {
+
+  private static final int STRIPES = stripesFor(Runtime.getRuntime().availableProcessors());
+
+  private final AtomicLong sequence = new AtomicLong();
+  // buffers are created lazily as most soft assertions don't collect any errors
+  private final AtomicReferenceArray<Queue<SequencedError>> buffers = new AtomicReferenceArray<>(STRIPES);
+  // only written when changed to avoid invalidating the field cache line for each successful assertion
+  private volatile boolean wasSuccess = true;
+
+  /** Creates a new concurrent assertion error collector. */
+  public ConcurrentAssertionErrorCollector() {}
+
+  @Override
+  public void collectAssertionError(AssertionError error) {
+    bufferOfCurrentThread().add(new SequencedError(sequence.getAndIncrement(), error));
+    wasSuccess = false;
+    onAssertionErrorCollected(error);
+  }
+
+  /**
+   * Returns the collected errors in the order they were collected.
+   *
+   * @return the collected errors in the order they were collected.
+   */
+  @Override
+  public List<AssertionError> assertionErrorsCollected() {
+    List<SequencedError> sequencedErrors = new ArrayList<>();
+    for (int i = 0; i < STRIPES; i++) {
+      Queue<SequencedError> buffer = buffers.get(i);
+      if (buffer != null) sequencedErrors.addAll(buffer);
+    }
+    sequencedErrors.sort(comparingLong(SequencedError::sequence));
+    List<AssertionError> errors = new ArrayList<>(sequencedErrors.size());
+    sequencedErrors.forEach(sequencedError -> errors.add(sequencedError.error()));
+    return unmodifiableList(errors);
+  }
+
+  @Override
+  public void succeeded() {
+    if (!wasSuccess) wasSuccess = true;
+  }
+
+  @Override
+  public boolean wasSuccess() {
+    return wasSuccess;
+  }
+
+  private Queue<SequencedError> bufferOfCurrentThread() {
+    int hash = System.identityHashCode(Thread.currentThread());
+    int index = (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    Queue<SequencedError> buffer = buffers.get(index);
+    if (buffer != null) return buffer;
+    buffers.compareAndSet(index, null, new ConcurrentLinkedQueue<>());
+    return buffers.get(index);
+  }
+
+  // a power of two so that the buffer of a thread can be computed with a mask
+  private static int stripesFor(int processors) {
+    int stripes = Integer.highestOneBit(Math.max(1, processors - 1)) << 1;
+    return Math.min(stripes, 64);
+  }
+
+  private record SequencedError(long sequence, AssertionError error) {
+  }
+
+}
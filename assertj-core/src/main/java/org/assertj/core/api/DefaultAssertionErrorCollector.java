@@ -21,6 +21,7 @@ import static java.util.Collections.unmodifiableList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Default in-memory assertion error collector.
@@ -32,7 +33,8 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   private volatile boolean wasSuccess = true;
   private final List<AssertionError> collectedAssertionErrors = synchronizedList(new ArrayList<>());
 
-  private final List<AfterAssertionErrorCollected> callbacks = synchronizedList(new ArrayList<>());
+  // callbacks are rarely added but notified for each collected error, even when errors are collected by a delegate
+  private final List<AfterAssertionErrorCollected> callbacks = new CopyOnWriteArrayList<>();
 
   private AssertionErrorCollector delegate = null;
 
@@ -1493,6 +1493,40 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Makes the recursive comparison to compare the subtrees of the object graphs in parallel using the common
+   * {@link java.util.concurrent.ForkJoinPool}, this is useful to compare large object graphs like big collections or maps of
+   * domain objects.
+   * <p>
+   * The top of the object graphs is compared first until there are enough subtrees to compare (ex: the elements of a big
+   * collection), these are then compared in parallel and the differences found are reported in the same order as a sequential
+   * comparison would.
+   * <p>
+   * Some things to be aware of:
+   * <ul>
+   * <li>registered comparators and the {@code equals} methods used by the comparison must be thread safe</li>
+   * <li>values shared by different subtrees are compared in each of them instead of being compared only once</li>
+   * <li>this option has no effect when compared fields or types are specified as they require a sequential comparison</li>
+   * </ul>
+   * <p>
+   * Example:
+   * <pre><code class='java'> Map&lt;String, Person&gt; actual = loadPersons();
+   * Map&lt;String, Person&gt; expected = loadPersons();
+   *
+   * // assertion succeeds, the persons are compared in parallel
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .comparingSubtreesInParallel()
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF comparingSubtreesInParallel() {
+    recursiveComparisonConfiguration.compareSubtreesInParallel(true);
+    return myself;
+  }
+
   /**
    * Makes the recursive comparison to check that actual's type is compatible with expected's type (and do the same for each field). <br>
    * Compatible means that the expected's type is the same or a subclass of actual's type.
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the assertion constructors used by {@link SoftAssertionsProvider#proxy(Class, Class, Object)} as method handles,
+ * looking up a constructor and making it accessible is much more costly than invoking it.
+ */
+final class SoftAssertionConstructors {
+
+  private static final MethodType OBJECT_FACTORY = methodType(Object.class, Object.class);
+
+  // assert class constructors by actual class, an assert class is almost always proxied with the same actual class
+  private static final ClassValue<Map<Class<?>, MethodHandle>> CONSTRUCTORS = new ClassValue<>() {
+    @Override
+    protected Map<Class<?>, MethodHandle> computeValue(Class<?> assertClass) {
+      return new ConcurrentHashMap<>(2);
+    }
+  };
+
+  private SoftAssertionConstructors() {}
+
+  /**
+   * Creates an instance of the given assertion class with its constructor taking a single parameter of the given actual
+   * class type.
+   *
+   * @param <SELF> the type of the assertion class
+   * @param assertClass the assertion class
+   * @param actualClass the constructor parameter type
+   * @param actual the constructor argument
+   * @return a new instance of the given assertion class
+   * @throws ReflectiveOperationException if the constructor can't be found or accessed, or if it has thrown an exception
+   *           (wrapped in an {@link InvocationTargetException} like when using reflection)
+   */
+  @SuppressWarnings("unchecked")
+  static <SELF> SELF newInstance(Class<SELF> assertClass, Class<?> actualClass, Object actual)
+      throws ReflectiveOperationException {
+    MethodHandle constructor = constructorOf(assertClass, actualClass);
+    try {
+      return (SELF) (Object) constructor.invokeExact(actual);
+    } catch (Throwable throwable) {
+      throw new InvocationTargetException(throwable);
+    }
+  }
+
+  private static MethodHandle constructorOf(Class<?> assertClass, Class<?> actualClass) throws ReflectiveOperationException {
+    Map<Class<?>, MethodHandle> constructors = CONSTRUCTORS.get(assertClass);
+    MethodHandle constructor = constructors.get(actualClass);
+    if (constructor != null) return constructor;
+    Constructor<?> reflectedConstructor = assertClass.getDeclaredConstructor(actualClass);
+    reflectedConstructor.setAccessible(true);
+    constructor = MethodHandles.lookup().unreflectConstructor(reflectedConstructor).asType(OBJECT_FACTORY);
+    constructors.put(actualClass, constructor);
+    return constructor;
+  }
+
+}
@@ -15,7 +15,6 @@
  */
 package org.assertj.core.api;
 
-import java.lang.reflect.Constructor;
 import java.util.function.Consumer;
 
 import org.opentest4j.MultipleFailuresError;
@@ -46,8 +45,11 @@ public interface SoftAssertionsProvider extends AssertionErrorCollector {
    * The assertion class must have a public constructor taking a single parameter of {@code actualClass} type.
    * The returned instance will have its {@code softAssertionCollector} set to this provider.
    * <p>
+   * The assertion class constructor is looked up once and cached, creating the following instances costs about as much as
+   * calling the constructor directly.
+   * <p>
    * If you happen to already have an instance of an assert class, prefer using {@link #soft(Object) soft(assertionInstance)},
-   * it does the same thing without needing creating a new instance by reflection (which is costly).
+   * it does the same thing without needing creating a new instance.
    *
    * @param <SELF> The type of the assertion class
    * @param <ACTUAL> The type of the object-under-test
@@ -60,9 +62,7 @@ public interface SoftAssertionsProvider extends AssertionErrorCollector {
                                                                                      Class<ACTUAL> actualClass,
                                                                                      ACTUAL actual) {
     try {
-      Constructor<SELF> constructor = assertClass.getDeclaredConstructor(actualClass);
-      constructor.setAccessible(true);
-      SELF instance = constructor.newInstance(actual);
+      SELF instance = SoftAssertionConstructors.newInstance(assertClass, actualClass, actual);
       if (instance instanceof AbstractAssert<?, ?> abstractAssert) {
         abstractAssert.assertionErrorHandler = this;
       }
@@ -191,6 +191,21 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
     return comparator;
   }
 
+  /**
+   * Returns whether the configured comparator is known to define a total order, that is a {@link TotalOrderComparator}
+   * or one of the JDK natural, reverse and case insensitive orders.
+   * <p>
+   * Elements compared with such a comparator can be sorted, which allows to match them with a {@link SortedMergeMatcher}.
+   *
+   * @return whether the configured comparator is known to define a total order
+   */
+  public boolean hasTotalOrderComparator() {
+    return comparator instanceof TotalOrderComparator
+           || comparator == Comparator.naturalOrder()
+           || comparator == Comparator.reverseOrder()
+           || comparator == String.CASE_INSENSITIVE_ORDER;
+  }
+
   /**
    * Returns the configured comparator description.
    *
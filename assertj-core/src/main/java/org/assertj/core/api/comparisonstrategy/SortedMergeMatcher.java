@@ -0,0 +1,212 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.comparisonstrategy;
+
+import static java.util.Comparator.comparing;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Matches actual elements with expected values compared with a comparator defining a total order (see
+ * {@link TotalOrderComparator}).
+ * <p>
+ * Instead of looking up each value in all the elements, which takes O(n&sup2;) comparisons, both sides are sorted once
+ * and walked in step, which takes O(n log n) comparisons. Each run of equal elements on one side is then matched with the
+ * run of equal values on the other side.
+ * <p>
+ * Two kind of matches are computed:
+ * <ul>
+ * <li>an element is matched if there is at least an equal value on the other side, as in {@code contains}</li>
+ * <li>an element is paired if it is matched one to one with an equal value on the other side, as in
+ * {@code containsExactlyInAnyOrder}, elements of a run being paired in their original order</li>
+ * </ul>
+ * Sorting compares elements of the same side, which looking up values never does, so the matcher is only used when all
+ * elements and values are non {@code null} and of the same type, {@code null} handling being left to the comparator
+ * otherwise.
+ *
+ * @since 4.0.0
+ */
+public final class SortedMergeMatcher {
+
+  private final List<?> actual;
+  private final List<?> values;
+  private final boolean[] matchedActual;
+  private final boolean[] matchedValues;
+  private final boolean[] pairedActual;
+  private final boolean[] pairedValues;
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private SortedMergeMatcher(Comparator comparator, List<?> actual, List<?> values) {
+    this.actual = actual;
+    this.values = values;
+    matchedActual = new boolean[actual.size()];
+    matchedValues = new boolean[values.size()];
+    pairedActual = new boolean[actual.size()];
+    pairedValues = new boolean[values.size()];
+    List<Integer> sortedActual = sortedIndexesOf(actual, comparator);
+    List<Integer> sortedValues = sortedIndexesOf(values, comparator);
+    int i = 0;
+    int j = 0;
+    while (i < sortedActual.size() && j < sortedValues.size()) {
+      Object actualElement = actual.get(sortedActual.get(i));
+      Object value = values.get(sortedValues.get(j));
+      int comparison = comparator.compare(actualElement, value);
+      if (comparison < 0) i++;
+      else if (comparison > 0) j++;
+      else {
+        int actualRunEnd = i + 1;
+        while (actualRunEnd < sortedActual.size()
+               && comparator.compare(actual.get(sortedActual.get(actualRunEnd)), value) == 0) {
+          actualRunEnd++;
+        }
+        int valuesRunEnd = j + 1;
+        while (valuesRunEnd < sortedValues.size()
+               && comparator.compare(actualElement, values.get(sortedValues.get(valuesRunEnd))) == 0) {
+          valuesRunEnd++;
+        }
+        matchRuns(sortedActual.subList(i, actualRunEnd), sortedValues.subList(j, valuesRunEnd));
+        i = actualRunEnd;
+        j = valuesRunEnd;
+      }
+    }
+  }
+
+  /**
+   * Returns a matcher of the given actual elements and values if the given comparison strategy compares them with a
+   * comparator defining a total order, that is a {@link TotalOrderComparator} or one of the JDK natural, reverse and case
+   * insensitive orders, and if all the actual elements and values are non {@code null} and of the same type.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare actual elements and values
+   * @param actual the actual elements
+   * @param values the expected values
+   * @return the matcher or an empty Optional if the comparison strategy does not define a total order or if the elements
+   *         can't be sorted together
+   */
+  public static Optional<SortedMergeMatcher> sortedMergeMatcher(ComparisonStrategy comparisonStrategy, Iterable<?> actual,
+                                                                Iterable<?> values) {
+    if (!(comparisonStrategy instanceof ComparatorBasedComparisonStrategy strategy) || !strategy.hasTotalOrderComparator())
+      return Optional.empty();
+    List<?> actualElements = newArrayList(actual);
+    List<?> valuesElements = newArrayList(values);
+    if (!areNonNullAndOfSameType(actualElements, valuesElements)) return Optional.empty();
+    return Optional.of(new SortedMergeMatcher(strategy.getComparator(), actualElements, valuesElements));
+  }
+
+  // the comparator may handle nulls (e.g. nullsFirst) and may not compare elements of different types with each other,
+  // which looking up values one by one would not always do
+  private static boolean areNonNullAndOfSameType(List<?> actual, List<?> values) {
+    Class<?> type = null;
+    for (List<?> elements : List.of(actual, values)) {
+      for (Object element : elements) {
+        if (element == null) return false;
+        if (type == null) type = element.getClass();
+        else if (element.getClass() != type) return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether at least one actual element is equal to one of the values.
+   *
+   * @return whether at least one actual element is equal to one of the values
+   */
+  public boolean anyMatch() {
+    for (boolean matched : matchedActual) {
+      if (matched) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the values equal to at least one actual element, in their original order.
+   *
+   * @return the values equal to at least one actual element
+   */
+  public List<Object> matchedValues() {
+    return elementsOf(values, matchedValues, true);
+  }
+
+  /**
+   * Returns the values not equal to any actual element, in their original order.
+   *
+   * @return the values not equal to any actual element
+   */
+  public List<Object> unmatchedValues() {
+    return elementsOf(values, matchedValues, false);
+  }
+
+  /**
+   * Returns the actual elements not equal to any value, in their original order.
+   *
+   * @return the actual elements not equal to any value
+   */
+  public List<Object> unmatchedActual() {
+    return elementsOf(actual, matchedActual, false);
+  }
+
+  /**
+   * Returns the values that could not be paired one to one with an equal actual element, in their original order.
+   *
+   * @return the values that could not be paired with an equal actual element
+   */
+  public List<Object> unpairedValues() {
+    return elementsOf(values, pairedValues, false);
+  }
+
+  /**
+   * Returns the actual elements that could not be paired one to one with an equal value, in their original order.
+   *
+   * @return the actual elements that could not be paired with an equal value
+   */
+  public List<Object> unpairedActual() {
+    return elementsOf(actual, pairedActual, false);
+  }
+
+  private void matchRuns(List<Integer> actualRun, List<Integer> valuesRun) {
+    if (actualRun.isEmpty() || valuesRun.isEmpty()) return;
+    actualRun.forEach(index -> matchedActual[index] = true);
+    valuesRun.forEach(index -> matchedValues[index] = true);
+    // runs are in the original order since sorting is stable
+    int pairs = Math.min(actualRun.size(), valuesRun.size());
+    for (int k = 0; k < pairs; k++) {
+      pairedActual[actualRun.get(k)] = true;
+      pairedValues[valuesRun.get(k)] = true;
+    }
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static List<Integer> sortedIndexesOf(List<?> elements, Comparator comparator) {
+    List<Integer> indexes = new ArrayList<>(elements.size());
+    for (int i = 0; i < elements.size(); i++) {
+      indexes.add(i);
+    }
+    indexes.sort(comparing(elements::get, comparator));
+    return indexes;
+  }
+
+  private static List<Object> elementsOf(List<?> elements, boolean[] flags, boolean flag) {
+    List<Object> result = new ArrayList<>();
+    for (int i = 0; i < flags.length; i++) {
+      if (flags[i] == flag) result.add(elements.get(i));
+    }
+    return result;
+  }
+}
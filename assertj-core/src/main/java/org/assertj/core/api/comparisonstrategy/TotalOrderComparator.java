@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.comparisonstrategy;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+
+import java.util.Comparator;
+
+/**
+ * Comparator declaring that the comparator it wraps defines a total order, i.e. any values can be compared and values
+ * comparing to 0 are interchangeable.
+ * <p>
+ * Iterable and array containment assertions using such an element comparator sort the elements once instead of looking
+ * up each value in all the elements, which is much faster on large iterables or arrays, example:
+ * <pre><code class='java'> // elements are compared by id, two elements with the same id being considered equal
+ * assertThat(records).usingElementComparator(totalOrder(comparing(Record::id)))
+ *                    .containsExactlyInAnyOrderElementsOf(expectedRecords);</code></pre>
+ * <p>
+ * Comparators only telling whether values are equal (returning 0 or any other value) must not be wrapped as they don't
+ * allow to sort values. Elements are only sorted when they are all non {@code null} and of the same type, they are looked
+ * up one by one otherwise.
+ *
+ * @param <T> the type of objects that may be compared by this comparator
+ * @see SortedMergeMatcher
+ * @since 4.0.0
+ */
+public final class TotalOrderComparator<T> implements Comparator<T> {
+
+  private final Comparator<? super T> comparator;
+
+  private TotalOrderComparator(Comparator<? super T> comparator) {
+    this.comparator = requireNonNull(comparator, "The comparator to wrap should not be null");
+  }
+
+  /**
+   * Wraps the given comparator to declare that it defines a total order.
+   *
+   * @param <T> the type of objects that may be compared by the given comparator
+   * @param comparator the comparator defining a total order
+   * @return a comparator comparing values as the given one
+   * @throws NullPointerException if the given comparator is {@code null}
+   */
+  public static <T> TotalOrderComparator<T> totalOrder(Comparator<? super T> comparator) {
+    return new TotalOrderComparator<>(comparator);
+  }
+
+  @Override
+  public int compare(T o1, T o2) {
+    return comparator.compare(o1, o2);
+  }
+
+  /**
+   * Returns the wrapped comparator.
+   *
+   * @return the wrapped comparator
+   */
+  public Comparator<? super T> getComparator() {
+    return comparator;
+  }
+
+  @Override
+  public String toString() {
+    // the wrapper is an implementation detail, describe the wrapped comparator in assertion messages
+    return CONFIGURATION_PROVIDER.representation().toStringOf(comparator);
+  }
+}
@@ -28,12 +28,14 @@ import java.lang.reflect.Parameter;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.assertj.core.annotation.Beta;
 import org.assertj.core.api.AbstractSoftAssertions;
 import org.assertj.core.api.AssertionErrorCollector;
 import org.assertj.core.api.BDDSoftAssertions;
+import org.assertj.core.api.ConcurrentAssertionErrorCollector;
 import org.assertj.core.api.DefaultAssertionErrorCollector;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.SoftAssertionsProvider;
@@ -77,6 +79,14 @@ import org.junit.platform.commons.support.ReflectionSupport;
  * All {@code SoftAssertionsProvider} instances (fields &amp; parameters) created within the scope of the same test method
  * (including its {@code BeforeEach} phase) will share the same state object to collect the failed assertions, so that all
  * assertion failures from all {@link SoftAssertionsProvider}s will be reported in the order that they failed.
+ * <p>
+ * Tests using soft assertions from many threads can set the {@value #CONCURRENT_ERROR_COLLECTOR_PARAMETER} configuration
+ * parameter to {@code true} to collect errors with a {@link ConcurrentAssertionErrorCollector} that avoids threads
+ * contending on a single lock.
+ * <p>
+ * Tests running concurrently share their injected fields, their soft assertions collect errors in the collector of the test
+ * running in the current thread. Tasks run by threads that were not created by the test, like executors or common pool
+ * threads, must be wrapped with {@link #propagateErrorCollector(Runnable) propagateErrorCollector}.
  *
  * <h2>Integration with third-party extensions</h2>
  * <p>
@@ -168,15 +178,66 @@ public class SoftAssertionsExtension
    */
   public SoftAssertionsExtension() {}
 
+  /**
+   * Name of the configuration parameter which, when set to {@code true}, makes the extension collect errors with a
+   * {@link ConcurrentAssertionErrorCollector}, this is useful for tests using the same soft assertions from many threads.
+   *
+   * @since 4.0.0
+   */
+  public static final String CONCURRENT_ERROR_COLLECTOR_PARAMETER = "assertj.softAssertions.concurrentErrorCollector";
+
+  /**
+   * Name of the configuration parameter which, when set to {@code false}, stops threads created by concurrently running tests
+   * from inheriting the error collector of the test creating them, tasks run in other threads must then be wrapped with
+   * {@link #propagateErrorCollector(Callable) propagateErrorCollector}. This avoids copying the binding for
+   * each created thread, which matters for tests creating a lot of virtual threads. Default is {@code true}.
+   *
+   * @since 4.0.0
+   */
+  public static final String INHERIT_ERROR_COLLECTOR_PARAMETER = "assertj.softAssertions.inheritErrorCollector";
+
   private static final Namespace SOFT_ASSERTIONS_EXTENSION_NAMESPACE = Namespace.create(SoftAssertionsExtension.class);
 
+  // the error collector of the concurrent test running in the current thread, used to propagate it without extension context
+  private static final ThreadLocal<ErrorCollectorBinding> TEST_ERROR_COLLECTOR_BINDING = new ThreadLocal<>();
+
+  private record ErrorCollectorBinding(ThreadLocalErrorCollector threadLocalErrorCollector,
+                                       AssertionErrorCollector collector) {
+
+    Runnable propagateTo(Runnable task) {
+      return () -> {
+        AssertionErrorCollector previous = threadLocalErrorCollector.bind(collector);
+        try {
+          task.run();
+        } finally {
+          threadLocalErrorCollector.restore(previous);
+        }
+      };
+    }
+
+    <T> Callable<T> propagateTo(Callable<T> task) {
+      return () -> {
+        AssertionErrorCollector previous = threadLocalErrorCollector.bind(collector);
+        try {
+          return task.call();
+        } finally {
+          threadLocalErrorCollector.restore(previous);
+        }
+      };
+    }
+  }
+
   static class ThreadLocalErrorCollector implements AssertionErrorCollector {
 
-    InheritableThreadLocal<AssertionErrorCollector> threadLocal = new InheritableThreadLocal<>();
+    final ThreadLocal<AssertionErrorCollector> threadLocal;
+
+    ThreadLocalErrorCollector(boolean inheritable) {
+      threadLocal = inheritable ? new InheritableThreadLocal<>() : new ThreadLocal<>();
+    }
 
     @Override
     public Optional<AssertionErrorCollector> getDelegate() {
-      return Optional.of(threadLocal.get());
+      return Optional.ofNullable(threadLocal.get());
     }
 
     @Override
@@ -188,24 +249,46 @@ public class SoftAssertionsExtension
       threadLocal.remove();
     }
 
+    // binds the given collector to the current thread and returns the previous binding to restore
+    AssertionErrorCollector bind(AssertionErrorCollector collector) {
+      AssertionErrorCollector previous = threadLocal.get();
+      threadLocal.set(collector);
+      return previous;
+    }
+
+    void restore(AssertionErrorCollector previous) {
+      if (previous == null) threadLocal.remove();
+      else threadLocal.set(previous);
+    }
+
     @Override
     public void collectAssertionError(AssertionError assertionError) {
-      threadLocal.get().collectAssertionError(assertionError);
+      boundCollector().collectAssertionError(assertionError);
     }
 
     @Override
     public List<AssertionError> assertionErrorsCollected() {
-      return threadLocal.get().assertionErrorsCollected();
+      return boundCollector().assertionErrorsCollected();
     }
 
     @Override
     public void succeeded() {
-      threadLocal.get().succeeded();
+      boundCollector().succeeded();
     }
 
     @Override
     public boolean wasSuccess() {
-      return threadLocal.get().wasSuccess();
+      return boundCollector().wasSuccess();
+    }
+
+    private AssertionErrorCollector boundCollector() {
+      AssertionErrorCollector collector = threadLocal.get();
+      if (collector == null) {
+        String message = "No soft assertions error collector is bound to %s, tasks using soft assertions in other threads "
+                         + "should be wrapped with SoftAssertionsExtension.propagateErrorCollector";
+        throw new IllegalStateException(message.formatted(Thread.currentThread()));
+      }
+      return collector;
     }
   }
 
@@ -252,6 +335,7 @@ public class SoftAssertionsExtension
       // tlec's value for the current thread.
       ThreadLocalErrorCollector threadLocalErrorCollector = getThreadLocalCollector(context);
       threadLocalErrorCollector.setDelegate(collector);
+      TEST_ERROR_COLLECTOR_BINDING.set(new ErrorCollectorBinding(threadLocalErrorCollector, collector));
     } else {
       // Make sure that all the soft assertion provider instances have their delegate initialised to the assertion error
       // collector for the current context. Also check enclosing contexts (in the case of nested tests).
@@ -312,6 +396,7 @@ public class SoftAssertionsExtension
       collector = tlec.getDelegate()
                       .orElseThrow(() -> new IllegalStateException("Expecting delegate to be present for current context"));
       tlec.reset();
+      TEST_ERROR_COLLECTOR_BINDING.remove();
     } else {
       collector = getAssertionErrorCollector(extensionContext);
     }
@@ -328,10 +413,107 @@ public class SoftAssertionsExtension
   }
 
   private static ThreadLocalErrorCollector getThreadLocalCollector(ExtensionContext context) {
-    return getStore(context).computeIfAbsent(ThreadLocalErrorCollector.class, unused -> new ThreadLocalErrorCollector(),
+    return getStore(context).computeIfAbsent(ThreadLocalErrorCollector.class,
+                                             unused -> new ThreadLocalErrorCollector(inheritsErrorCollector(context)),
                                              ThreadLocalErrorCollector.class);
   }
 
+  private static boolean inheritsErrorCollector(ExtensionContext context) {
+    return context.getConfigurationParameter(INHERIT_ERROR_COLLECTOR_PARAMETER, Boolean::parseBoolean).orElse(true);
+  }
+
+  /**
+   * Returns a task running the given one with the soft assertions of the test running in the current thread collecting their
+   * errors in the test error collector, whatever the thread running the task.
+   * <p>
+   * This is only needed for tests running concurrently as their injected {@code SoftAssertionsProvider} fields are shared by
+   * the tests and route errors to the error collector bound to the current thread. Threads created by the test inherit the
+   * binding (unless {@value #INHERIT_ERROR_COLLECTOR_PARAMETER} is set to {@code false}) but threads created before, like
+   * executor or common pool threads, do not and may even have a binding from another test.
+   * <p>
+   * This method must be called from the thread running the test, the given task is returned as is when the test does not
+   * run concurrently or when called from another thread, use {@link #propagateErrorCollector(ExtensionContext, Runnable)}
+   * in that case.
+   * <p>
+   * Example:
+   * <pre><code class='java'> {@literal @}Test
+   * void concurrent_test() throws Exception {
+   *   ExecutorService executor = Executors.newFixedThreadPool(2);
+   *   try {
+   *     executor.submit(propagateErrorCollector(() -&gt; softly.assertThat(compute()).isPositive())).get();
+   *   } finally {
+   *     executor.shutdown();
+   *   }
+   * }</code></pre>
+   *
+   * @param task the task to run
+   * @return a task running the given task with the error collector of the test running in the current thread
+   * @since 4.0.0
+   */
+  @Beta
+  public static Runnable propagateErrorCollector(Runnable task) {
+    ErrorCollectorBinding binding = TEST_ERROR_COLLECTOR_BINDING.get();
+    return binding == null ? task : binding.propagateTo(task);
+  }
+
+  /**
+   * Returns a task calling the given one with the soft assertions of the test running in the current thread collecting their
+   * errors in the test error collector, whatever the thread running the task.
+   * <p>
+   * This is typically used to fork subtasks of a {@code StructuredTaskScope} or to submit tasks to an executor, see
+   * {@link #propagateErrorCollector(Runnable)}.
+   *
+   * @param <T> the task result type
+   * @param task the task to call
+   * @return a task calling the given task with the error collector of the test running in the current thread
+   * @since 4.0.0
+   */
+  @Beta
+  public static <T> Callable<T> propagateErrorCollector(Callable<T> task) {
+    ErrorCollectorBinding binding = TEST_ERROR_COLLECTOR_BINDING.get();
+    return binding == null ? task : binding.propagateTo(task);
+  }
+
+  /**
+   * Returns a task running the given one with the soft assertions of the given test method context collecting their errors
+   * in the test error collector, whatever the thread running the task.
+   * <p>
+   * Unlike {@link #propagateErrorCollector(Runnable)}, this can be called from any thread, typically by third-party
+   * extensions which are given the test method {@code ExtensionContext}.
+   *
+   * @param context the test method {@code ExtensionContext}
+   * @param task the task to run
+   * @return a task running the given task with the given test error collector
+   * @since 4.0.0
+   */
+  @Beta
+  public static Runnable propagateErrorCollector(ExtensionContext context, Runnable task) {
+    if (!isConcurrent(context)) return task;
+    return errorCollectorBindingOf(context).propagateTo(task);
+  }
+
+  /**
+   * Returns a task calling the given one with the soft assertions of the given test method context collecting their errors
+   * in the test error collector, whatever the thread running the task.
+   * <p>
+   * See {@link #propagateErrorCollector(ExtensionContext, Runnable)}.
+   *
+   * @param <T> the task result type
+   * @param context the test method {@code ExtensionContext}
+   * @param task the task to call
+   * @return a task calling the given task with the given test error collector
+   * @since 4.0.0
+   */
+  @Beta
+  public static <T> Callable<T> propagateErrorCollector(ExtensionContext context, Callable<T> task) {
+    if (!isConcurrent(context)) return task;
+    return errorCollectorBindingOf(context).propagateTo(task);
+  }
+
+  private static ErrorCollectorBinding errorCollectorBindingOf(ExtensionContext context) {
+    return new ErrorCollectorBinding(getThreadLocalCollector(context), getAssertionErrorCollector(context));
+  }
+
   /**
    * Returns the {@link AssertionErrorCollector} for the given extension context, if none exists for the current context then
    * one is created.
@@ -351,10 +533,18 @@ public class SoftAssertionsExtension
    */
   @Beta
   public static AssertionErrorCollector getAssertionErrorCollector(ExtensionContext context) {
-    return getStore(context).computeIfAbsent(AssertionErrorCollector.class, unused -> new DefaultAssertionErrorCollector(),
+    return getStore(context).computeIfAbsent(AssertionErrorCollector.class, unused -> newAssertionErrorCollector(context),
                                              AssertionErrorCollector.class);
   }
 
+  private static AssertionErrorCollector newAssertionErrorCollector(ExtensionContext context) {
+    return usesConcurrentErrorCollector(context) ? new ConcurrentAssertionErrorCollector() : new DefaultAssertionErrorCollector();
+  }
+
+  private static boolean usesConcurrentErrorCollector(ExtensionContext context) {
+    return context.getConfigurationParameter(CONCURRENT_ERROR_COLLECTOR_PARAMETER, Boolean::parseBoolean).orElse(false);
+  }
+
   @SuppressWarnings("unchecked")
   private static Collection<SoftAssertionsProvider> getSoftAssertionsProviders(ExtensionContext context) {
     return getStore(context).computeIfAbsent(Collection.class, unused -> new ConcurrentLinkedQueue<>(), Collection.class);
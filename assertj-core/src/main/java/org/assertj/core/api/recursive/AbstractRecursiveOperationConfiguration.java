@@ -16,7 +16,9 @@
 package org.assertj.core.api.recursive;
 
 import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.recursive.comparison.FieldLocation.FIELD_SEPARATOR;
 import static org.assertj.core.util.Lists.list;
 
 import java.util.ArrayList;
@@ -29,6 +31,7 @@ import java.util.stream.Stream;
 
 import org.assertj.core.api.RecursiveComparisonAssert;
 import org.assertj.core.api.recursive.comparison.FieldLocation;
+import org.assertj.core.internal.BoundedMemo;
 import org.assertj.core.util.Strings;
 
 /**
@@ -39,10 +42,19 @@ public abstract class AbstractRecursiveOperationConfiguration {
   /** The default delimiter used in configuration descriptions. */
   protected static final String DEFAULT_DELIMITER = ", ";
 
+  private static final int MAX_MEMOIZED_PATHS = 10_000;
+
   private final Set<String> ignoredFields = new LinkedHashSet<>();
   private final List<Pattern> ignoredFieldsRegexes = new ArrayList<>();
   private final Set<Class<?>> ignoredTypes = new LinkedHashSet<>();
   private final List<Pattern> ignoredTypesRegexes = new ArrayList<>();
+  // ignore rules only depend on the field location path used in rules, their results are memoized per path since
+  // many nodes of a graph share the same path (ex: elements of a collection). The memos are bounded as configurations
+  // are often shared constants and map keys make the number of paths unbounded.
+  private final BoundedMemo<String, Boolean> ignoredFieldMatchByPath = new BoundedMemo<>(MAX_MEMOIZED_PATHS);
+  private final BoundedMemo<String, Boolean> ignoredFieldRegexMatchByPath = new BoundedMemo<>(MAX_MEMOIZED_PATHS);
+  // all ignored fields regexes combined in a single alternation, null if they can't be combined
+  private volatile Pattern combinedIgnoredFieldsRegex;
 
   /**
    * Creates a configuration from the given builder.
@@ -70,6 +82,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
   public void ignoreFields(String... fieldsToIgnore) {
     List<String> fieldLocations = list(fieldsToIgnore);
     ignoredFields.addAll(fieldLocations);
+    ignoredFieldMatchByPath.clear();
   }
 
   /**
@@ -91,6 +104,8 @@ public abstract class AbstractRecursiveOperationConfiguration {
   public void ignoreFieldsMatchingRegexes(String... regexes) {
     List<Pattern> patterns = toPatterns(regexes);
     ignoredFieldsRegexes.addAll(patterns);
+    combinedIgnoredFieldsRegex = combine(ignoredFieldsRegexes);
+    ignoredFieldRegexMatchByPath.clear();
   }
 
   /**
@@ -241,7 +256,15 @@ public abstract class AbstractRecursiveOperationConfiguration {
    * @return whether the field matches an ignored regex
    */
   public boolean matchesAnIgnoredFieldRegex(FieldLocation fieldLocation) {
+    if (getIgnoredFieldsRegexes().isEmpty()) return false;
+    return ignoredFieldRegexMatchByPath.get(fieldLocation.getPathToUseInRules(),
+                                            path -> hierarchyMatchesAnIgnoredFieldRegex(fieldLocation));
+  }
+
+  private boolean hierarchyMatchesAnIgnoredFieldRegex(FieldLocation fieldLocation) {
     // checks parent fields as if a parent field is ignored all subfields (including this field location) should be too.
+    Pattern combinedRegex = combinedIgnoredFieldsRegex;
+    if (combinedRegex != null) return fieldLocation.hierarchyMatchesRegex(combinedRegex);
     return getIgnoredFieldsRegexes().stream().anyMatch(fieldLocation::hierarchyMatchesRegex);
   }
 
@@ -252,8 +275,19 @@ public abstract class AbstractRecursiveOperationConfiguration {
    * @return whether the field is ignored
    */
   public boolean matchesAnIgnoredField(FieldLocation fieldLocation) {
+    if (getIgnoredFields().isEmpty()) return false;
+    return ignoredFieldMatchByPath.get(fieldLocation.getPathToUseInRules(), this::hierarchyMatchesAnIgnoredField);
+  }
+
+  private boolean hierarchyMatchesAnIgnoredField(String path) {
+    // the root location is never ignored
+    if (path.isEmpty()) return false;
     // checks parent fields as if a parent field is ignored all subfields (including this field location) should be too.
-    return getIgnoredFields().stream().anyMatch(fieldLocation::hierarchyMatches);
+    // looking up each parent path is independent of the number of ignored fields.
+    for (int end = path.indexOf(FIELD_SEPARATOR); end != -1; end = path.indexOf(FIELD_SEPARATOR, end + 1)) {
+      if (getIgnoredFields().contains(path.substring(0, end))) return true;
+    }
+    return getIgnoredFields().contains(path);
   }
 
   private String describeIgnoredFields() {
@@ -325,6 +359,20 @@ public abstract class AbstractRecursiveOperationConfiguration {
     }
   }
 
+  private static Pattern combine(List<Pattern> regexes) {
+    if (regexes.isEmpty() || !regexes.stream().allMatch(AbstractRecursiveOperationConfiguration::canBeCombined)) return null;
+    return Pattern.compile(regexes.stream()
+                                  .map(regex -> "(?:" + regex.pattern() + ")")
+                                  .collect(joining("|")));
+  }
+
+  private static boolean canBeCombined(Pattern regex) {
+    // capturing groups backreferences or names would clash in the combined regex, inline flags (ex: comments mode) and
+    // quotations could spread over the other regexes.
+    String pattern = regex.pattern();
+    return regex.matcher("").groupCount() == 0 && !pattern.contains("(?") && !pattern.contains("\\Q");
+  }
+
   private static List<Pattern> toPatterns(String[] regexes) {
     return Stream.of(regexes)
                  .map(Pattern::compile)
@@ -15,6 +15,7 @@
  */
 package org.assertj.core.api.recursive.assertion;
 
+import static java.util.Collections.newSetFromMap;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.IterableAssertionPolicy.ITERABLE_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.MapAssertionPolicy.MAP_OBJECT_AND_ENTRIES;
@@ -22,10 +23,10 @@ import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfigu
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.OptionalAssertionPolicy.OPTIONAL_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.introspection.ClassUtils.isOptionalOrPrimitiveOptional;
 import static org.assertj.core.util.introspection.ClassUtils.isPrimitiveOrWrapper;
 
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -46,7 +47,8 @@ public class RecursiveAssertionDriver {
   private static final String KEY_FORMAT = "KEY[%s]";
   private static final String VALUE_FORMAT = "VAL[%s]";
 
-  private final Set<String> visitedNodeIds = newHashSet();
+  // nodes are tracked by identity, two different but equal nodes must both be visited
+  private final Set<Object> visitedNodes = newSetFromMap(new IdentityHashMap<>());
   private final List<FieldLocation> fieldsFailingTheAssertion = list();
   private final RecursiveAssertionConfiguration configuration;
 
@@ -73,7 +75,7 @@ public class RecursiveAssertionDriver {
 
   /** Clears traversal state so this driver can be reused. */
   public void reset() {
-    visitedNodeIds.clear();
+    visitedNodes.clear();
     fieldsFailingTheAssertion.clear();
   }
 
@@ -263,20 +265,7 @@ public class RecursiveAssertionDriver {
     // Cannot mark null nodes, so just lie and say marking succeeded...
     if (node == null) return false;
 
-    String objectId = identityToString(node);
-    return !visitedNodeIds.add(objectId);
-  }
-
-  /*
-   * This is taken verbatim from org.apache.commons.lang3.ObjectUtils .
-   */
-  private static String identityToString(final Object object) {
-    if (object == null) {
-      return null;
-    }
-    final String name = object.getClass().getName();
-    final String hexString = Integer.toHexString(System.identityHashCode(object));
-    return name + '@' + hexString;
+    return !visitedNodes.add(node);
   }
 
   private boolean isIterable(Class<?> nodeType) {
@@ -18,7 +18,6 @@ package org.assertj.core.api.recursive.comparison;
 import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -99,11 +98,9 @@ public abstract class ComparingNormalizedFields extends AbstractRecursiveCompari
    * @return the normalized field name
    */
   private String normalize(Class<?> nodeClass, String fieldName) {
-    if (!originalFieldNameByNormalizedFieldNameByType.containsKey(nodeClass)) {
-      originalFieldNameByNormalizedFieldNameByType.put(nodeClass, new HashMap<>());
-    }
     String normalizedFieldName = normalizeFieldName(fieldName);
-    originalFieldNameByNormalizedFieldNameByType.get(nodeClass).put(normalizedFieldName, fieldName);
+    originalFieldNameByNormalizedFieldNameByType.computeIfAbsent(nodeClass, unused -> new ConcurrentHashMap<>())
+                                                .put(normalizedFieldName, fieldName);
     return normalizedFieldName;
   }
 
@@ -598,12 +598,7 @@ public final class DualValue {
     return !canonicalName.startsWith("java.lang");
   }
 
-  boolean hasAncestor(DualValue dualValue) {
-    DualValue ancestorDualValue = parentDualValue;
-    while (ancestorDualValue != null) {
-      if (ancestorDualValue.sameValues(dualValue)) return true;
-      else ancestorDualValue = ancestorDualValue.parentDualValue;
-    }
-    return false;
+  DualValue getParentDualValue() {
+    return parentDualValue;
   }
 }
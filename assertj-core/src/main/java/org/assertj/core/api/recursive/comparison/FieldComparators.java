@@ -24,9 +24,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+import org.assertj.core.internal.BoundedMemo;
+
 /**
  * An internal holder of the comparators for fields described by their path without element index.
  * <p>
@@ -34,9 +37,17 @@ import java.util.stream.Stream;
  */
 public class FieldComparators extends FieldHolder<Comparator<?>> {
 
+  private static final int MAX_MEMOIZED_FIELD_LOCATIONS = 10_000;
+
   /** Comparators registered for regex field patterns. */
   protected final LinkedList<ComparatorForPatterns> comparatorByPatterns = new LinkedList<>();
 
+  // the comparator matched by regexes only depends on the field location, it is memoized since many nodes of a compared
+  // graph share the same field location (ex: elements of a collection), the memo is bounded as map keys make the number of
+  // field locations unbounded.
+  private final BoundedMemo<String, Optional<Comparator<?>>> regexComparatorByFieldLocation =
+      new BoundedMemo<>(MAX_MEMOIZED_FIELD_LOCATIONS);
+
   /** Creates an empty field comparator registry. */
   public FieldComparators() {}
 
@@ -59,6 +70,7 @@ public class FieldComparators extends FieldHolder<Comparator<?>> {
   public void registerComparatorForFieldsMatchingRegexes(String[] regexes, Comparator<?> comparator) {
     List<Pattern> patterns = Stream.of(regexes).map(Pattern::compile).collect(toList());
     comparatorByPatterns.addFirst(new ComparatorForPatterns(patterns, comparator));
+    regexComparatorByFieldLocation.clear();
   }
 
   /**
@@ -73,8 +85,7 @@ public class FieldComparators extends FieldHolder<Comparator<?>> {
     // comparator for exact location takes precedence over the one with location matched by regexes
     if (hasComparatorForExactFieldLocation) return true;
     // no comparator for exact location, check if there is a regex that matches the field location
-    return comparatorByPatterns.stream()
-                               .anyMatch(comparatorForPatterns -> comparatorForPatterns.hasComparatorForField(fieldLocation));
+    return getRegexComparatorForField(fieldLocation).isPresent();
   }
 
   /**
@@ -88,11 +99,19 @@ public class FieldComparators extends FieldHolder<Comparator<?>> {
     Comparator<?> exactFieldLocationComparator = super.get(fieldLocation);
     if (exactFieldLocationComparator != null) return exactFieldLocationComparator;
     // no comparator for exact location, check if there is a regex that matches the field location
+    return getRegexComparatorForField(fieldLocation).orElse(null);
+  }
+
+  private Optional<Comparator<?>> getRegexComparatorForField(String fieldLocation) {
+    if (comparatorByPatterns.isEmpty()) return Optional.empty();
+    return regexComparatorByFieldLocation.get(fieldLocation, this::findRegexComparatorForField);
+  }
+
+  private Optional<Comparator<?>> findRegexComparatorForField(String fieldLocation) {
     return comparatorByPatterns.stream()
-                               .map(comparatorForPatterns -> comparatorForPatterns.getComparatorForField(fieldLocation))
+                               .<Comparator<?>> map(comparatorForPatterns -> comparatorForPatterns.getComparatorForField(fieldLocation))
                                .filter(Objects::nonNull)
-                               .findFirst()
-                               .orElse(null);
+                               .findFirst();
   }
 
   /**
@@ -115,6 +115,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   private boolean compareEnumAgainstString = false;
 
+  private boolean compareSubtreesInParallel = false;
+
   private RecursiveComparisonConfiguration(Builder builder) {
     super(builder);
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
@@ -142,6 +144,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     }
     this.representation = builder.representation != null ? builder.representation : STANDARD_REPRESENTATION;
     this.treatNullAndEmptyIterablesAsEqual = builder.treatNullAndEmptyIterablesAsEqual;
+    this.compareSubtreesInParallel = builder.compareSubtreesInParallel;
   }
 
   /**
@@ -897,6 +900,33 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return this.compareEnumAgainstString;
   }
 
+  /**
+   * Makes the recursive comparison to compare the subtrees of the object graphs in parallel.
+   * <p>
+   * See {@link RecursiveComparisonAssert#comparingSubtreesInParallel()} for details.
+   *
+   * @param compareSubtreesInParallel whether to compare the subtrees of the object graphs in parallel.
+   * @since 4.0.0
+   */
+  public void compareSubtreesInParallel(boolean compareSubtreesInParallel) {
+    this.compareSubtreesInParallel = compareSubtreesInParallel;
+  }
+
+  /**
+   * Returns whether the subtrees of the object graphs are compared in parallel.
+   *
+   * @return whether the subtrees of the object graphs are compared in parallel
+   * @since 4.0.0
+   */
+  public boolean isComparingSubtreesInParallel() {
+    return compareSubtreesInParallel;
+  }
+
+  // compared fields and types are evaluated while traversing the graph which requires a sequential comparison
+  boolean shouldCompareSubtreesInParallel() {
+    return compareSubtreesInParallel && !someComparedFieldsWereSpecified() && !hasComparedTypes();
+  }
+
   @Override
   public String toString() {
     return multiLineDescription(CONFIGURATION_PROVIDER.representation());
@@ -977,6 +1007,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     describeRegisteredErrorMessagesForTypes(description);
     describeIntrospectionStrategy(description);
     describeCompareEnumAgainstString(description);
+    describeCompareSubtreesInParallel(description);
     return description.toString();
   }
 
@@ -1324,6 +1355,11 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       description.append("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal%n".formatted());
   }
 
+  private void describeCompareSubtreesInParallel(StringBuilder description) {
+    if (compareSubtreesInParallel)
+      description.append("- the subtrees of the compared values were compared in parallel%n".formatted());
+  }
+
   private boolean matchesAnIgnoredOverriddenEqualsRegex(FieldLocation fieldLocation) {
     if (ignoredOverriddenEqualsForFieldsMatchingRegexes.isEmpty()) return false; // shortcut
     String pathToUseInRules = fieldLocation.getPathToUseInRules();
@@ -1638,6 +1674,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     private final FieldMessages fieldMessages = new FieldMessages();
     private final TypeMessages typeMessages = new TypeMessages();
     private boolean treatNullAndEmptyIterablesAsEqual = DEFAULT_TREAT_NULL_AND_EMPTY_COLLECTIONS_AS_EQUAL;
+    private boolean compareSubtreesInParallel;
 
     private RecursiveComparisonIntrospectionStrategy introspectionStrategy = DEFAULT_RECURSIVE_COMPARISON_INTROSPECTION_STRATEGY;
 
@@ -2065,6 +2102,19 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return this;
     }
 
+    /**
+     * Makes the recursive comparison to compare the subtrees of the object graphs in parallel.
+     * <p>
+     * See {@link RecursiveComparisonAssert#comparingSubtreesInParallel()} for details.
+     *
+     * @return this builder
+     * @since 4.0.0
+     */
+    public Builder withComparingSubtreesInParallel() {
+      this.compareSubtreesInParallel = true;
+      return this;
+    }
+
     /**
      * Builds the recursive comparison configuration.
      *
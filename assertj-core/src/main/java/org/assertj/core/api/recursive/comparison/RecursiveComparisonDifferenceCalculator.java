@@ -17,12 +17,14 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.Objects.deepEquals;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
 import static org.assertj.core.api.recursive.comparison.DualValue.rootDualValue;
+import static org.assertj.core.api.recursive.comparison.StructuralFingerprints.structuralFingerprintsOf;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 import static org.assertj.core.util.IterableUtil.sizeOf;
 import static org.assertj.core.util.Lists.list;
@@ -34,6 +36,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -41,7 +44,10 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -55,6 +61,8 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.assertj.core.api.recursive.comparison.VisitedDualValues.SubtreeEvent;
+
 /**
  * Based on {@link org.assertj.core.internal.DeepDifference}
  * but takes a {@link RecursiveComparisonConfiguration},
@@ -87,6 +95,8 @@ public class RecursiveComparisonDifferenceCalculator {
                                                                 +
                                                                 "- actual value had more fields to compare than expected value, these actual fields could not be found in expected: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  // number of subtrees comparisons per thread, more than one to balance subtrees of different sizes
+  private static final int SUBTREES_PER_THREAD = 4;
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -94,6 +104,8 @@ public class RecursiveComparisonDifferenceCalculator {
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+    // true when comparing a subtree in parallel with other subtrees, false for the nested comparisons of its elements
+    boolean comparingASubtree;
 
     public ComparisonState(VisitedDualValues visitedDualValues,
                            RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
@@ -189,6 +201,10 @@ public class RecursiveComparisonDifferenceCalculator {
     String toStringOf(Object value) {
       return recursiveComparisonConfiguration.getRepresentation().toStringOf(value);
     }
+
+    boolean isComparingASubtree() {
+      return comparingASubtree;
+    }
   }
 
   /**
@@ -217,6 +233,9 @@ public class RecursiveComparisonDifferenceCalculator {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && typesDiffer(rootDualValue)) {
       return list(typeDifference(rootDualValue));
     }
+    if (recursiveComparisonConfiguration.shouldCompareSubtreesInParallel()) {
+      return determineDifferencesInParallel(rootDualValue, recursiveComparisonConfiguration);
+    }
     return determineDifferences(rootDualValue, new VisitedDualValues(), recursiveComparisonConfiguration);
   }
 
@@ -232,10 +251,71 @@ public class RecursiveComparisonDifferenceCalculator {
                                                                  RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
     ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
     comparisonState.initDualValuesToCompare(dualValue);
+    compareDualValues(comparisonState, Integer.MAX_VALUE);
+    return comparisonState.getDifferences();
+  }
 
-    while (comparisonState.hasDualValuesToCompare()) {
+  private static List<ComparisonDifference> determineDifferencesInParallel(DualValue rootDualValue,
+                                                                           RecursiveComparisonConfiguration configuration) {
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    ComparisonState comparisonState = new ComparisonState(visitedDualValues, configuration);
+    comparisonState.initDualValuesToCompare(rootDualValue);
+    // compare the top of the graph until there are enough subtrees to compare to keep all the threads busy
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+    int subtreesCount = SUBTREES_PER_THREAD * pool.getParallelism();
+    compareDualValues(comparisonState, subtreesCount);
+    if (!comparisonState.hasDualValuesToCompare()) return comparisonState.getDifferences();
+
+    // each subtree comparison is given a contiguous chunk of the dual values to compare, in the order they would have been
+    // compared sequentially, and tracks the values it visits separately from the other subtrees comparisons.
+    List<DualValue> dualValuesToCompare = new ArrayList<>(comparisonState.dualValuesToCompare);
+    int chunkSize = (dualValuesToCompare.size() + subtreesCount - 1) / subtreesCount;
+    List<CompletableFuture<ComparisonState>> subtreeComparisons = new ArrayList<>();
+    for (int start = 0; start < dualValuesToCompare.size(); start += chunkSize) {
+      List<DualValue> chunk = dualValuesToCompare.subList(start, Math.min(start + chunkSize, dualValuesToCompare.size()));
+      subtreeComparisons.add(supplyAsync(() -> compareSubtrees(chunk, visitedDualValues, configuration), pool));
+    }
+    // merge the subtrees comparisons in order to get the same result whatever the order they were completed in
+    for (CompletableFuture<ComparisonState> subtreeComparison : subtreeComparisons) {
+      ComparisonState subtreeComparisonState = join(subtreeComparison);
+      comparisonState.differences.addAll(subtreeComparisonState.differences);
+      for (SubtreeEvent subtreeEvent : subtreeComparisonState.visitedDualValues.getSubtreeEvents()) {
+        if (!subtreeEvent.isRevisit()) {
+          visitedDualValues.registerComparisonDifference(subtreeEvent.dualValue, subtreeEvent.comparisonDifference);
+        } else if (visitedDualValues.hasRegisteredComparisonDifferences(subtreeEvent.dualValue)) {
+          comparisonState.addDifference(subtreeEvent.dualValue, alreadyVisitedNodeDescription(subtreeEvent.dualValue));
+        }
+      }
+    }
+    return comparisonState.getDifferences();
+  }
 
-      dualValue = comparisonState.pickDualValueToCompare();
+  private static ComparisonState compareSubtrees(List<DualValue> dualValuesToCompare, VisitedDualValues visitedDualValues,
+                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    ComparisonState comparisonState = new ComparisonState(visitedDualValues.forSubtree(), recursiveComparisonConfiguration);
+    comparisonState.comparingASubtree = true;
+    comparisonState.dualValuesToCompare.addAll(dualValuesToCompare);
+    compareDualValues(comparisonState, Integer.MAX_VALUE);
+    return comparisonState;
+  }
+
+  private static ComparisonState join(CompletableFuture<ComparisonState> subtreeComparison) {
+    try {
+      return subtreeComparison.join();
+    } catch (CompletionException e) {
+      // rethrow what the comparison has thrown (ex: a failing custom comparator) as if it had been executed sequentially
+      if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+      if (e.getCause() instanceof Error error) throw error;
+      throw e;
+    }
+  }
+
+  // compare the dual values to compare until there are none left or there are at least maxDualValuesToCompare of them
+  private static void compareDualValues(ComparisonState comparisonState, int maxDualValuesToCompare) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    while (comparisonState.hasDualValuesToCompare() && comparisonState.dualValuesToCompare.size() < maxDualValuesToCompare) {
+
+      DualValue dualValue = comparisonState.pickDualValueToCompare();
       if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
         // keep track of field locations of type to compare, needed to compare child nodes, for example if we want to
         // only compare the Person type, we must compare the Person fields too even though they are not of type Person
@@ -243,10 +323,12 @@ public class RecursiveComparisonDifferenceCalculator {
       }
 
       // if we have already visited the dual value, no need to compute the comparison differences again, this also avoid cycles
-      Optional<Set<ComparisonDifference>> comparisonDifferences = comparisonState.visitedDualValues.getRegisteredComparisonDifferencesOf(dualValue);
-      if (comparisonDifferences.isPresent()) {
-        if (!comparisonDifferences.get().isEmpty()) {
-          comparisonState.addDifference(dualValue, "already visited node but now location is: " + dualValue.fieldLocation);
+      if (comparisonState.visitedDualValues.isVisited(dualValue)) {
+        if (comparisonState.isComparingASubtree() && comparisonState.visitedDualValues.isSharedVisitedDualValue(dualValue)) {
+          // the differences found by the other subtrees comparisons are not known yet, decide once they are
+          comparisonState.visitedDualValues.registerRevisitOfSharedVisitedDualValue(dualValue);
+        } else if (comparisonState.visitedDualValues.hasRegisteredComparisonDifferences(dualValue)) {
+          comparisonState.addDifference(dualValue, alreadyVisitedNodeDescription(dualValue));
         }
         continue;
       }
@@ -436,7 +518,10 @@ public class RecursiveComparisonDifferenceCalculator {
         comparisonState.registerForComparison(nodeDualValue);
       }
     }
-    return comparisonState.getDifferences();
+  }
+
+  private static String alreadyVisitedNodeDescription(DualValue dualValue) {
+    return "already visited node but now location is: " + dualValue.fieldLocation;
   }
 
   private static boolean reportActualHasMissingOrExtraFields(DualValue dualValue, Set<String> actualChildrenNodeNamesToCompare,
@@ -655,6 +740,74 @@ public class RecursiveComparisonDifferenceCalculator {
 
   private static void doCompareUnorderedIterables(DualValue dualValue, Iterable<?> actual, Iterable<?> expected,
                                                   ComparisonState comparisonState) {
+    Optional<StructuralFingerprints> structuralFingerprints = structuralFingerprintsOf(dualValue, actual, expected,
+                                                                                       comparisonState.recursiveComparisonConfiguration);
+    List<Object> expectedElementsNotFound = structuralFingerprints.isPresent()
+        ? expectedElementsNotFoundByFingerprint(dualValue, actual, expected, structuralFingerprints.get(), comparisonState)
+        : expectedElementsNotFoundByHashCode(dualValue, actual, expected, comparisonState);
+    if (!expectedElementsNotFound.isEmpty()) {
+      String type = actual.getClass().getSimpleName();
+      String unmatched = "The following expected elements were not matched in the actual %s:%n  %s".formatted(type,
+                                                                                                              comparisonState.toStringOf(expectedElementsNotFound));
+      comparisonState.addDifference(dualValue, unmatched);
+      // TODO could improve the error by listing the actual elements not in expected but that would need
+      // another double loop inverting actual and expected to find the actual elements not matched in expected
+    }
+  }
+
+  private static List<Object> expectedElementsNotFoundByFingerprint(DualValue dualValue, Iterable<?> actual,
+                                                                    Iterable<?> expected,
+                                                                    StructuralFingerprints structuralFingerprints,
+                                                                    ComparisonState comparisonState) {
+    // elements considered equal by the recursive comparison should have the same fingerprint, an expected element is thus
+    // first searched in the actual elements with the same fingerprint.
+    Map<Integer, List<Object>> actualElementsGroupedByFingerprint = new HashMap<>();
+    for (Object actualElement : actual) {
+      actualElementsGroupedByFingerprint.computeIfAbsent(structuralFingerprints.fingerprintOf(actualElement), key -> list())
+                                        .add(actualElement);
+    }
+    List<Object> expectedElementsNotFoundInTheirBucket = list();
+    List<Integer> fingerprintsOfExpectedElementsNotFoundInTheirBucket = list();
+    for (Object expectedElement : expected) {
+      int expectedFingerprint = structuralFingerprints.fingerprintOf(expectedElement);
+      List<Object> actualFingerprintBucket = actualElementsGroupedByFingerprint.get(expectedFingerprint);
+      boolean expectedElementMatched = false;
+      if (actualFingerprintBucket != null) {
+        Iterator<?> actualIterator = actualFingerprintBucket.iterator();
+        expectedElementMatched = searchExpectedElementIn(actualIterator, expectedElement, dualValue, comparisonState);
+        // found an element in actual matching expectedElement, remove it as it can't be used to match other expected elements
+        if (expectedElementMatched) actualIterator.remove();
+      }
+      if (!expectedElementMatched) {
+        expectedElementsNotFoundInTheirBucket.add(expectedElement);
+        fingerprintsOfExpectedElementsNotFoundInTheirBucket.add(expectedFingerprint);
+      }
+    }
+    // fingerprints rely on hashCode for some values, which may not be consistent with equals, check the actual elements
+    // left in the other buckets, this only happens for expected elements not matched in their own bucket.
+    List<Object> expectedElementsNotFound = list();
+    for (int i = 0; i < expectedElementsNotFoundInTheirBucket.size(); i++) {
+      Object expectedElement = expectedElementsNotFoundInTheirBucket.get(i);
+      Integer expectedFingerprint = fingerprintsOfExpectedElementsNotFoundInTheirBucket.get(i);
+      boolean expectedElementMatched = false;
+      for (Entry<Integer, List<Object>> actualElementsEntry : actualElementsGroupedByFingerprint.entrySet()) {
+        // avoid checking the same bucket twice
+        if (actualElementsEntry.getKey().equals(expectedFingerprint)) continue;
+        Iterator<?> actualElementsIterator = actualElementsEntry.getValue().iterator();
+        expectedElementMatched = searchExpectedElementIn(actualElementsIterator, expectedElement, dualValue, comparisonState);
+        if (expectedElementMatched) {
+          // found an element in actual matching expectedElement, remove it as it can't be used to match other expected elements
+          actualElementsIterator.remove();
+          break;
+        }
+      }
+      if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
+    }
+    return expectedElementsNotFound;
+  }
+
+  private static List<Object> expectedElementsNotFoundByHashCode(DualValue dualValue, Iterable<?> actual, Iterable<?> expected,
+                                                                 ComparisonState comparisonState) {
     List<Object> expectedElementsNotFound = list();
     // speed up comparison by selecting actual elements matching expected hash code, note that the hash code might not be
     // relevant if fields used to compute it are ignored in the recursive comparison, it's a good heuristic though to check
@@ -689,14 +842,7 @@ public class RecursiveComparisonDifferenceCalculator {
         if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
       }
     }
-    if (!expectedElementsNotFound.isEmpty()) {
-      String type = actual.getClass().getSimpleName();
-      String unmatched = "The following expected elements were not matched in the actual %s:%n  %s".formatted(type,
-                                                                                                              comparisonState.toStringOf(expectedElementsNotFound));
-      comparisonState.addDifference(dualValue, unmatched);
-      // TODO could improve the error by listing the actual elements not in expected but that would need
-      // another double loop inverting actual and expected to find the actual elements not matched in expected
-    }
+    return expectedElementsNotFound;
   }
 
   private static Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode(Iterable<?> actual) {
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator.hasOverriddenEquals;
+import static org.assertj.core.internal.RecursiveHelper.isContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import org.assertj.core.util.DualClass;
+
+/**
+ * Computes a fingerprint of unordered iterable elements such that elements considered equal by the recursive comparison
+ * have the same fingerprint, this allows to only compare actual and expected elements having the same fingerprint.
+ * <p>
+ * The fingerprint of an element is computed from what the recursive comparison compares:
+ * <ul>
+ * <li>java types are compared with equals, their fingerprint is their hash code</li>
+ * <li>enums are compared by name, their fingerprint is their name hash code (which is consistent with comparing enums to strings)</li>
+ * <li>other types are compared field by field, their fingerprint is computed from the not ignored fields having a java type value, other
+ * fields (nested objects, containers, ...) don't contribute to the fingerprint</li>
+ * </ul>
+ * Values compared with a custom comparator or with null values don't contribute to the fingerprint either as they could
+ * be considered equal to any value. Elements compared with their overridden equals are fingerprinted with their hash code
+ * which may not be consistent with equals, expected elements not matched by an actual element with the same fingerprint
+ * must thus still be compared to the other actual elements.
+ * <p>
+ * Fingerprints can't be computed when the comparison of elements depends on both actual and expected values, like when
+ * ignoring actual null fields, or when elements have different types.
+ */
+final class StructuralFingerprints {
+
+  // used for values which can be equal to any other values
+  private static final int ANY_VALUE = 0;
+
+  private final DualValue iterableDualValue;
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+  private final List<Class<?>> typesWithComparators;
+
+  private StructuralFingerprints(DualValue iterableDualValue, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this.iterableDualValue = iterableDualValue;
+    this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+    this.typesWithComparators = new ArrayList<>();
+    recursiveComparisonConfiguration.comparatorByTypes()
+                                    .map(Entry::getKey)
+                                    .forEach(this::registerTypesWithComparators);
+  }
+
+  /**
+   * Returns the fingerprints of the given iterables elements if they can be computed.
+   *
+   * @param iterableDualValue the dual value holding the actual and expected iterables
+   * @param actual the actual elements
+   * @param expected the expected elements
+   * @param recursiveComparisonConfiguration the recursive comparison configuration
+   * @return the fingerprints or an empty Optional if they can't be computed
+   */
+  static Optional<StructuralFingerprints> structuralFingerprintsOf(DualValue iterableDualValue, Iterable<?> actual,
+                                                                   Iterable<?> expected,
+                                                                   RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    if (!canComputeFingerprintsWith(recursiveComparisonConfiguration)) return Optional.empty();
+    if (!haveAllTheSameType(actual, expected)) return Optional.empty();
+    return Optional.of(new StructuralFingerprints(iterableDualValue, recursiveComparisonConfiguration));
+  }
+
+  /**
+   * Returns the fingerprint of the given element.
+   *
+   * @param element the element to fingerprint
+   * @return the fingerprint of the given element
+   */
+  int fingerprintOf(Object element) {
+    // elements are compared at the iterable location
+    DualValue elementDualValue = new DualValue(iterableDualValue.fieldLocation, element, element, iterableDualValue);
+    if (element == null || hasCustomComparator(elementDualValue)) return ANY_VALUE;
+    if (element instanceof Enum<?> enumElement) return enumElement.name().hashCode();
+    if (isContainer(element) || element instanceof Throwable) return ANY_VALUE;
+    if (elementDualValue.isActualJavaType()) return element.hashCode();
+    if (recursiveComparisonConfiguration.shouldHonorOverriddenEquals(elementDualValue)
+        && hasOverriddenEquals(element.getClass())) {
+      return element.hashCode();
+    }
+    int fingerprint = 0;
+    for (String fieldName : recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(elementDualValue)) {
+      Object fieldValue = recursiveComparisonConfiguration.getValue(fieldName, element);
+      DualValue fieldDualValue = new DualValue(elementDualValue.fieldLocation.field(fieldName), fieldValue, fieldValue,
+                                               elementDualValue);
+      // a sum does not depend on the fields iteration order
+      fingerprint += 31 * fieldName.hashCode() + fieldFingerprintOf(fieldDualValue);
+    }
+    return fingerprint;
+  }
+
+  private int fieldFingerprintOf(DualValue fieldDualValue) {
+    Object fieldValue = fieldDualValue.actual;
+    if (fieldValue == null || hasCustomComparator(fieldDualValue)) return ANY_VALUE;
+    if (fieldValue instanceof Enum<?> enumValue) return enumValue.name().hashCode();
+    if (isContainer(fieldValue) || fieldValue instanceof Throwable) return ANY_VALUE;
+    if (fieldDualValue.isActualJavaType()) return fieldValue.hashCode();
+    // nested values are not fingerprinted to keep the fingerprint cheap to compute
+    return ANY_VALUE;
+  }
+
+  private boolean hasCustomComparator(DualValue dualValue) {
+    if (recursiveComparisonConfiguration.hasComparatorForField(dualValue.getConcatenatedPath())) return true;
+    // the other value type is not known, consider any comparator that could be selected for this value type
+    Class<?> valueType = dualValue.actual.getClass();
+    return typesWithComparators.stream().anyMatch(type -> type.isAssignableFrom(valueType));
+  }
+
+  private void registerTypesWithComparators(DualClass<?, ?> dualClass) {
+    typesWithComparators.add(dualClass.actual());
+    if (!dualClass.hasNoExpected()) typesWithComparators.add(dualClass.expected());
+  }
+
+  private static boolean canComputeFingerprintsWith(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    // with compared fields or types, what is compared depends on the location of the values in the graph.
+    if (recursiveComparisonConfiguration.someComparedFieldsWereSpecified()) return false;
+    if (recursiveComparisonConfiguration.hasComparedTypes()) return false;
+    // fields ignored by type are evaluated from the actual value type (or expected one when actual is null), the same
+    // element could then have different fields depending on the side it is compared from.
+    if (!recursiveComparisonConfiguration.getIgnoredTypes().isEmpty()) return false;
+    if (!recursiveComparisonConfiguration.getIgnoredTypesRegexes().isEmpty()) return false;
+    // ignoring fields based on one side values makes the comparison depend on both actual and expected values.
+    return !recursiveComparisonConfiguration.getIgnoreAllActualNullFields()
+           && !recursiveComparisonConfiguration.getIgnoreAllExpectedNullFields()
+           && !recursiveComparisonConfiguration.getIgnoreAllActualEmptyOptionalFields();
+  }
+
+  private static boolean haveAllTheSameType(Iterable<?> actual, Iterable<?> expected) {
+    // elements of different types may have different fields or be compared differently
+    Class<?> type = null;
+    for (Iterable<?> elements : List.of(actual, expected)) {
+      for (Object element : elements) {
+        if (element == null) continue;
+        if (type == null) type = element.getClass();
+        else if (type != element.getClass()) return false;
+      }
+    }
+    return true;
+  }
+}
@@ -15,24 +15,66 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.lang.System.identityHashCode;
+import static java.util.Collections.newSetFromMap;
 import static org.assertj.core.util.Lists.list;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+/**
+ * Keeps track of the visited dual values and the differences found on them.
+ * <p>
+ * Visited dual values are indexed by the identity of their actual and expected values (ignoring their location), the
+ * dual values and their ancestors are also linked in a parent to children tree so that the differences found in the
+ * subtree of a dual value can be aggregated without scanning all the visited dual values.
+ */
 class VisitedDualValues {
 
-  private final List<VisitedDualValue> visitedDualValues;
+  // only the first dual value registered for given actual/expected values is tracked since this is where the
+  // differences are registered, visiting the same values again at another location does not require another entry.
+  private final Map<ValuesKey, VisitedDualValue> visitedDualValues;
+  // the visited dual values and their ancestors
+  private final Map<DualValue, Node> nodes;
+  // nodes indexed by values to find all the locations where some values were met
+  private final Map<ValuesKey, List<Node>> nodesBySameValues;
+  // the dual values visited before splitting the comparison in subtrees compared in parallel, only read when set
+  private final VisitedDualValues sharedVisitedDualValues;
+  // the differences registered and revisits of shared visited dual values, in the order they were met
+  private final List<SubtreeEvent> subtreeEvents;
 
   VisitedDualValues() {
-    visitedDualValues = new ArrayList<>();
+    this(null);
+  }
+
+  private VisitedDualValues(VisitedDualValues sharedVisitedDualValues) {
+    visitedDualValues = new HashMap<>();
+    nodes = new IdentityHashMap<>();
+    nodesBySameValues = new HashMap<>();
+    this.sharedVisitedDualValues = sharedVisitedDualValues;
+    this.subtreeEvents = new ArrayList<>();
+  }
+
+  /**
+   * Creates the visited dual values of a subtree compared in parallel with other subtrees, this instance must not be
+   * modified until all the subtrees have been compared.
+   *
+   * @return the visited dual values of a subtree
+   */
+  VisitedDualValues forSubtree() {
+    return new VisitedDualValues(this);
   }
 
   void registerVisitedDualValue(DualValue dualValue) {
-    visitedDualValues.add(new VisitedDualValue(dualValue));
+    visitedDualValueOf(dualValue);
   }
 
   void registerComparisonDifference(DualValue dualValue, ComparisonDifference comparisonDifference) {
@@ -40,47 +82,202 @@ class VisitedDualValues {
   }
 
   void registerComparisonDifferences(DualValue dualValue, List<ComparisonDifference> comparisonDifferences) {
-    Optional<VisitedDualValue> visitedDualValueWithSameValues = visitedDualValues.stream()
-                                                                                 .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                                                                                 .findFirst();
     // register difference on dual values agnostic of location, to take care of values visited several times
-    if (visitedDualValueWithSameValues.isPresent()) {
-      visitedDualValueWithSameValues.get().comparisonDifferences.addAll(comparisonDifferences);
-    } else {
-      VisitedDualValue visitedDualValue = new VisitedDualValue(dualValue);
-      visitedDualValue.comparisonDifferences.addAll(comparisonDifferences);
-      visitedDualValues.add(visitedDualValue);
+    VisitedDualValue visitedDualValue = visitedDualValueOf(dualValue);
+    visitedDualValue.comparisonDifferences.addAll(comparisonDifferences);
+    if (!comparisonDifferences.isEmpty()) visitedDualValue.node.markAsHavingDifferences();
+    if (sharedVisitedDualValues != null) {
+      comparisonDifferences.forEach(comparisonDifference -> subtreeEvents.add(new SubtreeEvent(dualValue, comparisonDifference)));
     }
   }
 
-  Optional<Set<ComparisonDifference>> getRegisteredComparisonDifferencesOf(DualValue dualValue) {
-    Optional<VisitedDualValue> optionalVisitedDualValue = visitedDualValues.stream()
-                                                                           .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                                                                           .findFirst();
-    if (optionalVisitedDualValue.isEmpty()) {
-      return Optional.empty();
+  /**
+   * Records that the given dual value, visited before the comparison was split in subtrees, was met again in this subtree.
+   * <p>
+   * Whether this should be reported as a difference can only be decided once the differences of all subtrees are known.
+   *
+   * @param dualValue the dual value visited again
+   */
+  void registerRevisitOfSharedVisitedDualValue(DualValue dualValue) {
+    subtreeEvents.add(new SubtreeEvent(dualValue, null));
+  }
+
+  /**
+   * Returns whether the given dual value values were visited before the comparison was split in subtrees and not in this
+   * subtree.
+   *
+   * @param dualValue the dual value to check
+   * @return whether the given dual value values were only visited before the comparison was split in subtrees
+   */
+  boolean isSharedVisitedDualValue(DualValue dualValue) {
+    return sharedVisitedDualValues != null
+           && !visitedDualValues.containsKey(new ValuesKey(dualValue))
+           && sharedVisitedDualValues.isVisited(dualValue);
+  }
+
+  List<SubtreeEvent> getSubtreeEvents() {
+    return subtreeEvents;
+  }
+
+  /**
+   * Returns whether the given dual value values have already been visited, the location is ignored.
+   *
+   * @param dualValue the dual value to check
+   * @return whether the given dual value values have already been visited
+   */
+  boolean isVisited(DualValue dualValue) {
+    return visitedDualValues.containsKey(new ValuesKey(dualValue))
+           || (sharedVisitedDualValues != null && sharedVisitedDualValues.isVisited(dualValue));
+  }
+
+  /**
+   * Returns whether differences were registered on the given dual value values or any of the dual values below them.
+   * <p>
+   * This is equivalent to checking that {@link #getRegisteredComparisonDifferencesOf(DualValue)} is not empty without
+   * having to aggregate the differences.
+   *
+   * @param dualValue the dual value to check
+   * @return whether differences were registered on the given dual value values or their children
+   */
+  boolean hasRegisteredComparisonDifferences(DualValue dualValue) {
+    ValuesKey valuesKey = new ValuesKey(dualValue);
+    VisitedDualValue visitedDualValue = visitedDualValues.get(valuesKey);
+    if (visitedDualValue == null) {
+      // only the differences known before the comparison was split in subtrees are visible from a subtree
+      return sharedVisitedDualValues != null && sharedVisitedDualValues.hasRegisteredComparisonDifferences(dualValue);
     }
+    if (!visitedDualValue.comparisonDifferences.isEmpty()) return true;
+    return nodesBySameValues.get(valuesKey).stream().anyMatch(node -> node.hasDifferences);
+  }
+
+  Optional<Set<ComparisonDifference>> getRegisteredComparisonDifferencesOf(DualValue dualValue) {
+    ValuesKey valuesKey = new ValuesKey(dualValue);
+    VisitedDualValue visitedDualValue = visitedDualValues.get(valuesKey);
+    if (visitedDualValue == null) return Optional.empty();
     // need to aggregate the current visited dualValue differences + all the visited children differences
-    Set<ComparisonDifference> comparisonDifferences = new LinkedHashSet<>(optionalVisitedDualValue.get().comparisonDifferences);
-    visitedDualValues.stream()
-                     .filter(visitedDualValue -> visitedDualValue.dualValue.hasAncestor(dualValue))
-                     .forEach(visitedDualValue -> comparisonDifferences.addAll(visitedDualValue.comparisonDifferences));
+    Set<ComparisonDifference> comparisonDifferences = new LinkedHashSet<>(visitedDualValue.comparisonDifferences);
+    Set<Node> exploredNodes = newSetFromMap(new IdentityHashMap<>());
+    Deque<Node> nodesToExplore = new ArrayDeque<>();
+    // the same values can have been met at different locations, each of them is the root of a subtree to explore
+    for (Node node : nodesBySameValues.get(valuesKey)) {
+      if (node.hasDifferences) nodesToExplore.addAll(node.children);
+    }
+    while (!nodesToExplore.isEmpty()) {
+      Node node = nodesToExplore.removeFirst();
+      // subtrees without differences can be skipped
+      if (!node.hasDifferences || !exploredNodes.add(node)) continue;
+      VisitedDualValue nodeVisitedDualValue = visitedDualValues.get(node.valuesKey);
+      // ancestors are linked in the tree even if they were not visited themselves
+      if (nodeVisitedDualValue != null && nodeVisitedDualValue.node == node)
+        comparisonDifferences.addAll(nodeVisitedDualValue.comparisonDifferences);
+      nodesToExplore.addAll(node.children);
+    }
     return Optional.of(comparisonDifferences);
   }
 
+  private VisitedDualValue visitedDualValueOf(DualValue dualValue) {
+    return visitedDualValues.computeIfAbsent(new ValuesKey(dualValue), valuesKey -> new VisitedDualValue(nodeOf(dualValue)));
+  }
+
+  // link the dual value and its ancestors in the tree, stopping at the first ancestor already linked
+  private Node nodeOf(DualValue dualValue) {
+    Node node = nodes.get(dualValue);
+    if (node != null) return node;
+    node = newNode(dualValue);
+    Node child = node;
+    // iterate rather than recurse as object graphs can be deep
+    DualValue parentDualValue = dualValue.getParentDualValue();
+    while (parentDualValue != null) {
+      Node parent = nodes.get(parentDualValue);
+      boolean alreadyLinked = parent != null;
+      if (!alreadyLinked) parent = newNode(parentDualValue);
+      child.parent = parent;
+      parent.children.add(child);
+      if (alreadyLinked) break;
+      child = parent;
+      parentDualValue = parentDualValue.getParentDualValue();
+    }
+    return node;
+  }
+
+  private Node newNode(DualValue dualValue) {
+    Node node = new Node(dualValue);
+    nodes.put(dualValue, node);
+    nodesBySameValues.computeIfAbsent(node.valuesKey, valuesKey -> new ArrayList<>(1)).add(node);
+    return node;
+  }
+
   private static class VisitedDualValue {
-    DualValue dualValue;
-    List<ComparisonDifference> comparisonDifferences;
+    final Node node;
+    final List<ComparisonDifference> comparisonDifferences;
 
-    VisitedDualValue(DualValue dualValue) {
-      this.dualValue = dualValue;
+    VisitedDualValue(Node node) {
+      this.node = node;
       this.comparisonDifferences = new ArrayList<>();
     }
 
     @Override
     public String toString() {
-      return "VisitedDualValue[dualValue=%s, comparisonDifferences=%s]".formatted(this.dualValue, this.comparisonDifferences);
+      return "VisitedDualValue[dualValue=%s, comparisonDifferences=%s]".formatted(node.dualValue, comparisonDifferences);
+    }
+
+  }
+
+  // a difference registered in a subtree or, when comparisonDifference is null, a revisit of a shared visited dual value
+  static class SubtreeEvent {
+    final DualValue dualValue;
+    final ComparisonDifference comparisonDifference;
+
+    SubtreeEvent(DualValue dualValue, ComparisonDifference comparisonDifference) {
+      this.dualValue = dualValue;
+      this.comparisonDifference = comparisonDifference;
     }
 
+    boolean isRevisit() {
+      return comparisonDifference == null;
+    }
+  }
+
+  private static class Node {
+    final DualValue dualValue;
+    final ValuesKey valuesKey;
+    final List<Node> children;
+    Node parent;
+    // true if differences were registered on this node or any of its descendants
+    boolean hasDifferences;
+
+    Node(DualValue dualValue) {
+      this.dualValue = dualValue;
+      this.valuesKey = new ValuesKey(dualValue);
+      this.children = new ArrayList<>(1);
+    }
+
+    void markAsHavingDifferences() {
+      // stop as soon as a marked node is found since its ancestors are already marked
+      for (Node node = this; node != null && !node.hasDifferences; node = node.parent) {
+        node.hasDifferences = true;
+      }
+    }
+  }
+
+  // identity based key on actual and expected values, see DualValue#sameValues
+  private static final class ValuesKey {
+    private final Object actual;
+    private final Object expected;
+
+    ValuesKey(DualValue dualValue) {
+      this.actual = dualValue.actual;
+      this.expected = dualValue.expected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof ValuesKey that && actual == that.actual && expected == that.expected;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * identityHashCode(actual) + identityHashCode(expected);
+    }
   }
 }
@@ -29,7 +29,10 @@ import org.assertj.core.api.AbstractDateAssert;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Assumptions;
 import org.assertj.core.description.Description;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.PatternCache;
 import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
 
 /**
  * All configuration settings for AssertJ Core.
@@ -43,10 +46,16 @@ public class Configuration {
   public static final int MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION = 80;
   /** Default maximum number of elements to print. */
   public static final int MAX_ELEMENTS_FOR_PRINTING = 1000;
+  /** Default maximum number of elements iterated to represent an iterable that is not a collection. */
+  public static final int MAX_ELEMENTS_ITERATED_FOR_PRINTING = 10_000;
   /** Default maximum number of indices to print. */
   public static final int MAX_INDICES_FOR_PRINTING = 50;
   /** Default setting for removing AssertJ stack trace elements. */
   public static final boolean REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE = true;
+  /** Default setting for capturing only user frames in assertion errors stack trace. */
+  public static final boolean CAPTURE_ONLY_USER_STACK_FRAMES = false;
+  /** Default maximum number of user frames captured in assertion errors stack trace. */
+  public static final int MAX_CAPTURED_USER_STACK_FRAMES = 10;
   /** Default setting for comparing private fields. */
   public static final boolean ALLOW_COMPARING_PRIVATE_FIELDS = true;
   /** Default setting for extracting private fields. */
@@ -59,6 +68,8 @@ public class Configuration {
   public static final int MAX_STACKTRACE_ELEMENTS_DISPLAYED = 3;
   /** Default preferred assumption exception. */
   public static final PreferredAssumptionException PREFERRED_ASSUMPTION_EXCEPTION = PreferredAssumptionException.AUTO_DETECT;
+  /** Default maximum number of compiled regex patterns cached by regex based assertions. */
+  public static final int MAX_CACHED_PATTERNS = 100;
 
   // load default configuration after default values are initialized otherwise PREFERRED_ASSUMPTION_EXCEPTION is null
   /** Shared default configuration. */
@@ -68,13 +79,17 @@ public class Configuration {
   private boolean extractingPrivateFields;
   private boolean bareNamePropertyExtraction;
   private boolean removeAssertJRelatedElementsFromStackTrace;
+  private boolean captureOnlyUserStackFrames;
+  private int maxCapturedUserStackFrames;
   private List<DateFormat> additionalDateFormats;
   private int maxLengthForSingleLineDescription;
   private int maxElementsForPrinting;
+  private int maxElementsIteratedForPrinting;
   private boolean printAssertionsDescription;
   private Consumer<Description> descriptionConsumer;
   private int maxStackTraceElementsDisplayed;
   private PreferredAssumptionException preferredAssumptionException;
+  private int maxCachedPatterns;
 
   /** Creates a configuration initialized with default values. */
   public Configuration() {
@@ -89,13 +104,17 @@ public class Configuration {
     extractingPrivateFields = ALLOW_EXTRACTING_PRIVATE_FIELDS;
     bareNamePropertyExtraction = BARE_NAME_PROPERTY_EXTRACTION_ENABLED;
     removeAssertJRelatedElementsFromStackTrace = REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE;
+    captureOnlyUserStackFrames = CAPTURE_ONLY_USER_STACK_FRAMES;
+    maxCapturedUserStackFrames = MAX_CAPTURED_USER_STACK_FRAMES;
     additionalDateFormats = emptyList();
     maxLengthForSingleLineDescription = MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
     maxElementsForPrinting = MAX_ELEMENTS_FOR_PRINTING;
+    maxElementsIteratedForPrinting = MAX_ELEMENTS_ITERATED_FOR_PRINTING;
     printAssertionsDescription = PRINT_ASSERTIONS_DESCRIPTION_ENABLED;
     descriptionConsumer = null;
     maxStackTraceElementsDisplayed = MAX_STACKTRACE_ELEMENTS_DISPLAYED;
     preferredAssumptionException = PREFERRED_ASSUMPTION_EXCEPTION;
+    maxCachedPatterns = MAX_CACHED_PATTERNS;
   }
 
   /**
@@ -209,6 +228,68 @@ public class Configuration {
     this.removeAssertJRelatedElementsFromStackTrace = removeAssertJRelatedElementsFromStackTrace;
   }
 
+  /**
+   * Returns whether assertion errors stack trace only contains user frames, i.e. frames that come neither from AssertJ nor
+   * from the {@code java} and {@code jdk} packages. Default is {@value #CAPTURE_ONLY_USER_STACK_FRAMES}.
+   * <p>
+   * This is only effective when AssertJ related elements are removed from assertion errors stack trace, the user frames
+   * are then captured with a {@link StackWalker} that filters the frames while walking the stack instead of materializing
+   * the whole stack trace and filtering it afterward, combined with {@link #maxCapturedUserStackFrames()} the walk stops
+   * early which is cheaper for deep stacks.
+   * <p>
+   * Note that this only pays off with a small {@link #maxCapturedUserStackFrames()}: the assertion error still fills in its
+   * own stack trace when created, the stack is then walked a second time, so capturing a lot of user frames is slower than
+   * the default stack trace filtering.
+   * <p>
+   * See {@link Failures#setCaptureOnlyUserStackFrames(boolean)} for a detailed description.
+   *
+   * @return whether assertion errors stack trace only contains user frames.
+   * @since 4.0.0
+   */
+  public boolean captureOnlyUserStackFramesEnabled() {
+    return captureOnlyUserStackFrames;
+  }
+
+  /**
+   * Sets whether assertion errors stack trace only contains user frames.
+   * <p>
+   * See {@link Failures#setCaptureOnlyUserStackFrames(boolean)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param captureOnlyUserStackFrames whether assertion errors stack trace only contains user frames.
+   * @since 4.0.0
+   */
+  public void setCaptureOnlyUserStackFrames(boolean captureOnlyUserStackFrames) {
+    this.captureOnlyUserStackFrames = captureOnlyUserStackFrames;
+  }
+
+  /**
+   * Returns the maximum number of user frames captured in assertion errors stack trace when only user frames are captured,
+   * the stack walk stops once that number of user frames is reached. Default is {@value #MAX_CAPTURED_USER_STACK_FRAMES}.
+   *
+   * @return the maximum number of user frames captured in assertion errors stack trace.
+   * @since 4.0.0
+   */
+  public int maxCapturedUserStackFrames() {
+    return maxCapturedUserStackFrames;
+  }
+
+  /**
+   * Sets the maximum number of user frames captured in assertion errors stack trace when only user frames are captured.
+   * <p>
+   * The higher the maximum, the longer the stack walk, a large maximum makes capturing only user frames slower than the
+   * default stack trace filtering.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxCapturedUserStackFrames the maximum number of user frames captured, must be greater than 0.
+   * @since 4.0.0
+   */
+  public void setMaxCapturedUserStackFrames(int maxCapturedUserStackFrames) {
+    this.maxCapturedUserStackFrames = maxCapturedUserStackFrames;
+  }
+
   /**
    * AssertJ uses defaults date formats in date assertions, this property let's you register additional ones (default there are no additional date formats).
    * <p>
@@ -297,6 +378,31 @@ public class Configuration {
     this.maxElementsForPrinting = maxElementsForPrinting;
   }
 
+  /**
+   * Returns how many elements at most are iterated to represent an iterable that is not a collection in error messages.
+   * <p>
+   * Such iterables can be huge or even infinite, when they have more elements only their first elements are displayed.
+   * Default is {@value #MAX_ELEMENTS_ITERATED_FOR_PRINTING}.
+   *
+   * @return the maximum number of elements iterated to represent an iterable.
+   * @since 4.0.0
+   */
+  public int maxElementsIteratedForPrinting() {
+    return maxElementsIteratedForPrinting;
+  }
+
+  /**
+   * Sets how many elements at most are iterated to represent an iterable that is not a collection in error messages.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxElementsIteratedForPrinting the maximum number of elements iterated to represent an iterable.
+   * @since 4.0.0
+   */
+  public void setMaxElementsIteratedForPrinting(int maxElementsIteratedForPrinting) {
+    this.maxElementsIteratedForPrinting = maxElementsIteratedForPrinting;
+  }
+
   /**
    * Returns whether assertion descriptions are printed.
    *
@@ -383,6 +489,30 @@ public class Configuration {
     this.preferredAssumptionException = preferredAssumptionException;
   }
 
+  /**
+   * Returns how many compiled regex patterns at most are cached by regex based assertions like
+   * {@link org.assertj.core.api.AbstractCharSequenceAssert#matches(CharSequence)}, the least recently used patterns are
+   * evicted first. Default is {@value #MAX_CACHED_PATTERNS}.
+   *
+   * @return the maximum number of cached regex patterns.
+   * @since 4.0.0
+   */
+  public int maxCachedPatterns() {
+    return maxCachedPatterns;
+  }
+
+  /**
+   * Sets how many compiled regex patterns at most are cached by regex based assertions, 0 disables the cache.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxCachedPatterns the maximum number of cached regex patterns.
+   * @since 4.0.0
+   */
+  public void setMaxCachedPatterns(int maxCachedPatterns) {
+    this.maxCachedPatterns = maxCachedPatterns;
+  }
+
   /**
    * Applies this configuration to AssertJ.
    */
@@ -391,8 +521,11 @@ public class Configuration {
     Assertions.setAllowExtractingPrivateFields(extractingPrivateFieldsEnabled());
     Assertions.setExtractBareNamePropertyMethods(bareNamePropertyExtractionEnabled());
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting());
+    StandardRepresentation.setMaxElementsIteratedForPrinting(maxElementsIteratedForPrinting());
     Assertions.setMaxLengthForSingleLineDescription(maxLengthForSingleLineDescription());
     Assertions.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTraceEnabled());
+    Failures.instance().setCaptureOnlyUserStackFrames(captureOnlyUserStackFramesEnabled());
+    Failures.instance().setMaxCapturedUserStackFrames(maxCapturedUserStackFrames());
     Assertions.useRepresentation(representation());
     Assertions.setDescriptionConsumer(descriptionConsumer());
     Assertions.setPrintAssertionsDescription(printAssertionsDescription());
@@ -402,6 +535,7 @@ public class Configuration {
     AbstractDateAssert.useDefaultDateFormatsOnly();
     additionalDateFormats().forEach(Assertions::registerCustomDateFormat);
     Assumptions.setPreferredAssumptionException(preferredAssumptionException());
+    PatternCache.setMaxSize(maxCachedPatterns());
   }
 
   /**
@@ -426,11 +560,15 @@ public class Configuration {
                   "- additional date formats ......................... = %s%n" +
                   "- maxLengthForSingleLineDescription ............... = %s%n" +
                   "- maxElementsForPrinting .......................... = %s%n" +
+                  "- maxElementsIteratedForPrinting .................. = %s%n" +
                   "- maxStackTraceElementsDisplayed................... = %s%n" +
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n" +
-                  "- preferredAssumptionException .................... = %s%n",
+                  "- captureOnlyUserStackFramesEnabled ............... = %s%n" +
+                  "- maxCapturedUserStackFrames ...................... = %s%n" +
+                  "- preferredAssumptionException .................... = %s%n" +
+                  "- maxCachedPatterns ............................... = %s%n",
                   getClass().getName(),
                   representation(),
                   comparingPrivateFieldsEnabled(),
@@ -439,11 +577,15 @@ public class Configuration {
                   describeAdditionalDateFormats(),
                   maxLengthForSingleLineDescription(),
                   maxElementsForPrinting(),
+                  maxElementsIteratedForPrinting(),
                   maxStackTraceElementsDisplayed(),
                   printAssertionsDescription(),
                   descriptionConsumer(),
                   removeAssertJRelatedElementsFromStackTraceEnabled(),
-                  preferredAssumptionException());
+                  captureOnlyUserStackFramesEnabled(),
+                  maxCapturedUserStackFrames(),
+                  preferredAssumptionException(),
+                  maxCachedPatterns());
   }
 
   private String describeAdditionalDateFormats() {
@@ -20,6 +20,8 @@ import static java.util.stream.Collectors.joining;
 import java.util.List;
 
 import org.assertj.core.description.Description;
+import org.assertj.core.internal.Diff;
+import org.assertj.core.internal.Diff.TruncatedDeltas;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.diff.Delta;
 
@@ -28,6 +30,10 @@ import org.assertj.core.util.diff.Delta;
  */
 public class AbstractShouldHaveTextContent extends BasicErrorMessageFactory {
 
+  private static final String FURTHER_DIFFERENCES_NOT_REPORTED = "[...] further differences not reported, only the %s lines "
+                                                                 + "following the first difference are compared and at most "
+                                                                 + "%s differences are reported";
+
   /** The textual representation of the content differences. */
   protected String diffs;
 
@@ -67,7 +73,9 @@ public class AbstractShouldHaveTextContent extends BasicErrorMessageFactory {
    * @return the differences as text
    */
   protected static String diffsAsString(List<Delta<String>> diffsList) {
-    return diffsList.stream().map(Delta::toString).collect(joining(System.lineSeparator()));
+    String diffs = diffsList.stream().map(Delta::toString).collect(joining(System.lineSeparator()));
+    if (!(diffsList instanceof TruncatedDeltas)) return diffs;
+    return diffs + System.lineSeparator() + FURTHER_DIFFERENCES_NOT_REPORTED.formatted(Diff.WINDOW_SIZE, Diff.MAX_DELTAS);
   }
 
 }
@@ -15,9 +15,11 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.invoke.MethodType.methodType;
 import static org.assertj.core.util.Arrays.array;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,7 +33,6 @@ import org.assertj.core.presentation.Representation;
 public class AssertionErrorCreator {
 
   private static final Class<?>[] MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR = array(String.class, Object.class, Object.class);
-  private Method valueWrapperCreateMethod;
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   ConstructorInvoker constructorInvoker;
@@ -48,12 +49,6 @@ public class AssertionErrorCreator {
    */
   public AssertionErrorCreator(ConstructorInvoker constructorInvoker) {
     this.constructorInvoker = constructorInvoker;
-    try {
-      Class<?> valueWrapperClass = Class.forName("org.opentest4j.ValueWrapper");
-      valueWrapperCreateMethod = valueWrapperClass.getMethod("create", Object.class, String.class);
-    } catch (Exception e) {
-      valueWrapperCreateMethod = null;
-    }
   }
 
   // single assertion error
@@ -73,12 +68,15 @@ public class AssertionErrorCreator {
 
   private Optional<AssertionError> assertionFailedError(String message, Object actual, Object expected,
                                                         Representation representation) {
+    // wrapped before creating the error so that errors thrown by the representation are not swallowed
+    Object expectedValueWrapper = valueWrapper(expected, representation);
+    Object actualValueWrapper = valueWrapper(actual, representation);
     try {
       Object o = constructorInvoker.newInstance("org.opentest4j.AssertionFailedError",
                                                 MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR,
                                                 message,
-                                                valueWrapper(expected, representation),
-                                                valueWrapper(actual, representation));
+                                                expectedValueWrapper,
+                                                actualValueWrapper);
 
       if (o instanceof AssertionError error) return Optional.of(error);
 
@@ -86,13 +84,21 @@ public class AssertionErrorCreator {
     return Optional.empty();
   }
 
-  private Object valueWrapper(Object value, Representation representation) {
-    if (valueWrapperCreateMethod == null) return value;
+  private static Object valueWrapper(Object value, Representation representation) {
+    MethodHandle valueWrapperCreate = OpenTest4J.VALUE_WRAPPER_CREATE;
+    if (valueWrapperCreate == null) return value;
+    String valueRepresentation;
     try {
-      return valueWrapperCreateMethod.invoke(null, value, representation.toStringOf(value));
+      valueRepresentation = representation.toStringOf(value);
     } catch (Exception e) {
       return value; // best effort
     }
+    try {
+      return valueWrapperCreate.invoke(value, valueRepresentation);
+    } catch (Throwable e) {
+      // MethodHandle.invoke declares Throwable, ValueWrapper.create failing is handled as before
+      return value; // best effort
+    }
   }
 
   /**
@@ -130,4 +136,20 @@ public class AssertionErrorCreator {
     Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(multipleAssertionsError);
     return multipleAssertionsError;
   }
+
+  // opentest4j support is resolved once, when first needed, and not by every assertion error creator
+  private static final class OpenTest4J {
+
+    static final MethodHandle VALUE_WRAPPER_CREATE = valueWrapperCreate();
+
+    private static MethodHandle valueWrapperCreate() {
+      try {
+        Class<?> valueWrapperClass = Class.forName("org.opentest4j.ValueWrapper");
+        return MethodHandles.publicLookup().findStatic(valueWrapperClass, "create",
+                                                       methodType(valueWrapperClass, Object.class, String.class));
+      } catch (Exception e) {
+        return null;
+      }
+    }
+  }
 }
@@ -16,15 +16,23 @@
 package org.assertj.core.error;
 
 import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Access to constructors using Java reflection.
+ * <p>
+ * Constructors are looked up once and then cached as this is used to create assertion errors of optional libraries, like
+ * opentest4j {@code AssertionFailedError}, for every failed assertion.
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 public class ConstructorInvoker {
 
+  private static final Map<ConstructorKey, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
   /** Creates a new constructor invoker. */
   public ConstructorInvoker() {}
 
@@ -38,8 +46,16 @@ public class ConstructorInvoker {
    * @throws Exception if the class or constructor cannot be accessed or invoked
    */
   public Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
+    ConstructorKey constructorKey = new ConstructorKey(className, List.of(parameterTypes));
+    Constructor<?> constructor = CONSTRUCTORS.get(constructorKey);
+    if (constructor == null) {
+      // not using computeIfAbsent as the lookup throws checked exceptions when the class or constructor does not exist
+      constructor = Class.forName(className).getConstructor(parameterTypes);
+      CONSTRUCTORS.putIfAbsent(constructorKey, constructor);
+    }
     return constructor.newInstance(parameterValues);
   }
+
+  private record ConstructorKey(String className, List<Class<?>> parameterTypes) {
+  }
 }
@@ -61,6 +61,8 @@ public class ShouldBeEqual {
   protected final ComparisonStrategy comparisonStrategy;
   private final Representation representation;
   private ConstructorInvoker constructorInvoker = new ConstructorInvoker();
+  // actual and expected representations are needed several times to build the error, they are computed only once
+  private RepresentedValues representedValues;
 
   /**
    * Creates a new <code>{@link ShouldBeEqual}</code>.
@@ -145,7 +147,8 @@ public class ShouldBeEqual {
    * @return whether both representations are equal
    */
   protected boolean actualAndExpectedHaveSameStringRepresentation() {
-    return Objects.equals(representation.toStringOf(actual), representation.toStringOf(expected));
+    RepresentedValues values = representedValues(representation);
+    return Objects.equals(values.actual, values.expected);
   }
 
   /**
@@ -167,16 +170,12 @@ public class ShouldBeEqual {
       // this is even more confusing as we lost the fact that 42 was a float or a double.
       return defaultDetailedErrorMessage(description, representation);
     }
-    String actualRepresentation = representation.toStringOf(actual);
-    String expectedRepresentation = representation.toStringOf(expected);
-    if (hasMultilineValue(actualRepresentation, expectedRepresentation)) {
-      return errorMessageForMultilineValues(description, actualRepresentation, expectedRepresentation);
+    RepresentedValues values = representedValues(representation);
+    if (hasMultilineValue(values.actual, values.expected)) {
+      return errorMessageForMultilineValues(description, values.actual, values.expected);
     }
-
-    return comparisonStrategy.isStandard()
-        ? messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE, expected, actual)
-        : messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR,
-                                  expected, actual, comparisonStrategy);
+    // values are already represented, no need to use the message formatter to represent them again
+    return DescriptionFormatter.instance().format(description) + messageForValues(values.actual, values.expected);
   }
 
   private String errorMessageForMultilineValues(Description description,
@@ -192,9 +191,13 @@ public class ShouldBeEqual {
   }
 
   private String messageForMultilineValues(String actualRepresentation, String expectedRepresentation) {
+    return messageForValues(indent(actualRepresentation), indent(expectedRepresentation));
+  }
+
+  private String messageForValues(String actualRepresentation, String expectedRepresentation) {
     return comparisonStrategy.isStandard()
-        ? EXPECTED_BUT_WAS_MESSAGE.formatted(indent(expectedRepresentation), indent(actualRepresentation))
-        : EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR.formatted(indent(expectedRepresentation), indent(actualRepresentation),
+        ? EXPECTED_BUT_WAS_MESSAGE.formatted(expectedRepresentation, actualRepresentation)
+        : EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR.formatted(expectedRepresentation, actualRepresentation,
                                                               comparisonStrategy.asText());
   }
 
@@ -234,11 +237,12 @@ public class ShouldBeEqual {
 
   private AssertionError assertionFailedError(String message, Representation representation) {
     try {
+      RepresentedValues values = representedValues(representation);
       Object o = constructorInvoker.newInstance("org.opentest4j.AssertionFailedError",
                                                 MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR,
                                                 message,
-                                                representation.toStringOf(expected),
-                                                representation.toStringOf(actual));
+                                                values.expected,
+                                                values.actual);
       if (o instanceof AssertionError assertionError) {
         Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
         return assertionError;
@@ -249,6 +253,17 @@ public class ShouldBeEqual {
     }
   }
 
+  private RepresentedValues representedValues(Representation representation) {
+    if (representedValues == null || representedValues.representation != representation) {
+      representedValues = new RepresentedValues(representation, representation.toStringOf(actual),
+                                                representation.toStringOf(expected));
+    }
+    return representedValues;
+  }
+
+  private record RepresentedValues(Representation representation, String actual, String expected) {
+  }
+
   /**
    * Returns an unambiguous actual value representation.
    *
@@ -60,16 +60,16 @@ public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
 
   private ShouldHaveBinaryContent(File actual, BinaryDiffResult diff) {
     super("%nFile:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, unquotedString(String.valueOf(diff.offsetAsLong())), diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(Path actual, BinaryDiffResult diff) {
     super("%nPath:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, unquotedString(String.valueOf(diff.offsetAsLong())), diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(InputStream actual, BinaryDiffResult diff) {
     super("%nInputStream%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, unquotedString(String.valueOf(diff.offsetAsLong())), diff.expected, diff.actual);
   }
 }
@@ -17,6 +17,7 @@ package org.assertj.core.internal;
 
 import static java.lang.reflect.Array.getLength;
 import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.comparisonstrategy.SortedMergeMatcher.sortedMergeMatcher;
 import static org.assertj.core.error.ActualIsNotEmpty.actualIsNotEmpty;
 import static org.assertj.core.error.ConditionAndGroupGenericParameterTypeShouldBeTheSame.shouldBeSameGenericBetweenIterableAndCondition;
 import static org.assertj.core.error.ElementsShouldBe.elementsShouldBe;
@@ -89,12 +90,14 @@ import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
 import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.SortedMergeMatcher;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 import org.assertj.core.data.Index;
 import org.assertj.core.util.ArrayWrapperList;
@@ -156,6 +159,11 @@ public class Arrays {
     return comparisonStrategy;
   }
 
+  // primitive arrays compared with equals are checked without boxing their elements, see PrimitiveArrays
+  private boolean comparesWithEquals() {
+    return comparisonStrategy.getClass() == StandardComparisonStrategy.class;
+  }
+
   /**
    * Verifies that the given value is an array.
    *
@@ -240,12 +248,18 @@ public class Arrays {
    * @param values the expected values
    */
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
+    if (comparesWithEquals() && PrimitiveArrays.containsAll(actual, values)) return;
     if (commonChecks(info, failures, actual, values)) return;
+    Optional<SortedMergeMatcher> sortedMergeMatcher = sortedMergeMatcher(comparisonStrategy, wrap(actual), wrap(values));
     Set<Object> notFound = new LinkedHashSet<>();
-    int valueCount = sizeOf(values);
-    for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(actual, value)) notFound.add(value);
+    if (sortedMergeMatcher.isPresent()) {
+      notFound.addAll(sortedMergeMatcher.get().unmatchedValues());
+    } else {
+      int valueCount = sizeOf(values);
+      for (int i = 0; i < valueCount; i++) {
+        Object value = Array.get(values, i);
+        if (!arrayContains(actual, value)) notFound.add(value);
+      }
     }
     if (!notFound.isEmpty())
       throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
@@ -287,6 +301,7 @@ public class Arrays {
   }
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
+    if (comparesWithEquals() && PrimitiveArrays.containsOnly(actual, values)) return;
     if (commonChecks(info, failures, actual, values)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
@@ -318,6 +333,7 @@ public class Arrays {
   }
 
   void assertContainsExactly(AssertionInfo info, Failures failures, Object actual, Object values) {
+    if (comparesWithEquals() && PrimitiveArrays.containsExactly(actual, values)) return;
     if (commonChecks(info, failures, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
@@ -342,6 +358,13 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    Optional<SortedMergeMatcher> sortedMergeMatcher = sortedMergeMatcher(comparisonStrategy, wrap(actual), wrap(values));
+    if (sortedMergeMatcher.isPresent()) {
+      List<Object> notFound = sortedMergeMatcher.get().unpairedValues();
+      List<Object> notExpected = sortedMergeMatcher.get().unpairedActual();
+      if (notExpected.isEmpty() && notFound.isEmpty()) return;
+      throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+    }
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -388,6 +411,7 @@ public class Arrays {
   }
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
+    if (comparesWithEquals() && PrimitiveArrays.containsSequence(actual, sequence)) return;
     if (commonChecks(info, failures, actual, sequence)) return;
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
     int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
@@ -502,11 +526,16 @@ public class Arrays {
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
+    Optional<SortedMergeMatcher> sortedMergeMatcher = sortedMergeMatcher(comparisonStrategy, wrap(array), wrap(values));
     Set<Object> found = new LinkedHashSet<>();
-    int valuesSize = sizeOf(values);
-    for (int i = 0; i < valuesSize; i++) {
-      Object value = Array.get(values, i);
-      if (arrayContains(array, value)) found.add(value);
+    if (sortedMergeMatcher.isPresent()) {
+      found.addAll(sortedMergeMatcher.get().matchedValues());
+    } else {
+      int valuesSize = sizeOf(values);
+      for (int i = 0; i < valuesSize; i++) {
+        Object value = Array.get(values, i);
+        if (arrayContains(array, value)) found.add(value);
+      }
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
@@ -516,6 +545,7 @@ public class Arrays {
   }
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
+    if (comparesWithEquals() && PrimitiveArrays.doesNotHaveDuplicates(array)) return;
     assertNotNull(info, array);
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
@@ -583,12 +613,17 @@ public class Arrays {
   public void assertIsSubsetOf(AssertionInfo info, Failures failures, Object actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
+    Optional<SortedMergeMatcher> sortedMergeMatcher = sortedMergeMatcher(comparisonStrategy, wrap(actual), values);
     List<Object> extra = newArrayList();
-    int sizeOfActual = sizeOf(actual);
-    for (int i = 0; i < sizeOfActual; i++) {
-      Object actualElement = Array.get(actual, i);
-      if (!iterableContains(values, actualElement)) {
-        extra.add(actualElement);
+    if (sortedMergeMatcher.isPresent()) {
+      extra.addAll(sortedMergeMatcher.get().unmatchedActual());
+    } else {
+      int sizeOfActual = sizeOf(actual);
+      for (int i = 0; i < sizeOfActual; i++) {
+        Object actualElement = Array.get(actual, i);
+        if (!iterableContains(values, actualElement)) {
+          extra.add(actualElement);
+        }
       }
     }
     if (!extra.isEmpty()) {
@@ -796,9 +831,14 @@ public class Arrays {
     assertIsArray(info, actual);
     assertIsArray(info, values);
 
-    List<Object> valuesToSearchFor = asList(values);
-    for (Object element : asList(actual)) {
-      if (iterableContains(valuesToSearchFor, element)) return;
+    Optional<SortedMergeMatcher> sortedMergeMatcher = sortedMergeMatcher(comparisonStrategy, wrap(actual), wrap(values));
+    if (sortedMergeMatcher.isPresent()) {
+      if (sortedMergeMatcher.get().anyMatch()) return;
+    } else {
+      List<Object> valuesToSearchFor = asList(values);
+      for (Object element : asList(actual)) {
+        if (iterableContains(valuesToSearchFor, element)) return;
+      }
     }
     throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
 
@@ -833,6 +873,7 @@ public class Arrays {
   }
 
   void assertIsSorted(AssertionInfo info, Failures failures, Object array) {
+    if (comparesWithEquals() && PrimitiveArrays.isSorted(array)) return;
     assertNotNull(info, array);
     if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy strategy) {
       // instead of comparing array elements with their natural comparator, use the one set by client.
@@ -15,13 +15,15 @@
  */
 package org.assertj.core.internal;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * Compares the binary content of two inputStreams/paths.
@@ -31,6 +33,9 @@ import java.nio.file.Path;
 // TODO reduce the visibility of the fields annotated with @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int EOF = -1;
+  private static final int BUFFER_SIZE = 8192;
+
   /** Creates a new binary content comparator. */
   public BinaryDiff() {}
 
@@ -57,11 +62,26 @@ public class BinaryDiff {
    * @throws IOException if the path cannot be read
    */
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
-    try (InputStream actualStream = new BufferedInputStream(Files.newInputStream(actual))) {
+    try (InputStream actualStream = Files.newInputStream(actual)) {
       return diff(actualStream, expected);
     }
   }
 
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  /**
+   * Compares two paths without loading their content in memory, the comparison stops at the first difference.
+   *
+   * @param actual the actual path
+   * @param expected the expected path
+   * @return the comparison result
+   * @throws IOException if a path cannot be read
+   */
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    long offset = Files.mismatch(actual, expected);
+    if (offset == EOF) return BinaryDiffResult.noDiff();
+    return new BinaryDiffResult(offset, byteAt(expected, offset), byteAt(actual, offset));
+  }
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   /**
    * Compares an input stream with the expected bytes.
@@ -85,13 +105,33 @@ public class BinaryDiff {
    * @throws IOException if a stream cannot be read
    */
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    byte[] actualBuffer = new byte[BUFFER_SIZE];
+    byte[] expectedBuffer = new byte[BUFFER_SIZE];
+    long offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      // readNBytes only reads less than requested at the end of the stream
+      int actualLength = actualStream.readNBytes(actualBuffer, 0, BUFFER_SIZE);
+      int expectedLength = expectedStream.readNBytes(expectedBuffer, 0, BUFFER_SIZE);
+      int mismatch = Arrays.mismatch(actualBuffer, 0, actualLength, expectedBuffer, 0, expectedLength);
+      if (mismatch != -1) {
+        return new BinaryDiffResult(offset + mismatch, byteAt(expectedBuffer, expectedLength, mismatch),
+                                    byteAt(actualBuffer, actualLength, mismatch));
+      }
+      if (actualLength < BUFFER_SIZE) return BinaryDiffResult.noDiff(); // reached end of both streams
+      offset += BUFFER_SIZE;
+    }
+  }
+
+  private static int byteAt(byte[] buffer, int length, int index) {
+    return index < length ? buffer[index] & 0xFF : EOF;
+  }
+
+  private static int byteAt(Path path, long position) throws IOException {
+    try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+      if (position >= channel.size()) return EOF;
+      ByteBuffer buffer = ByteBuffer.allocate(1);
+      channel.position(position).read(buffer);
+      return buffer.get(0) & 0xFF;
     }
   }
 }
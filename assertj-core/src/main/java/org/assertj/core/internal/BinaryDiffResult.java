@@ -23,12 +23,16 @@ package org.assertj.core.internal;
 public class BinaryDiffResult {
   private static final int EOF = -1;
 
-  /** The offset of the first difference. */
+  /**
+   * The offset of the first difference, {@link Integer#MAX_VALUE} if it does not fit in an {@code int}, use
+   * {@link #offsetAsLong()} to get the offset of differences past 2 GB.
+   */
   public final int offset;
   /** The expected byte description. */
   public final String expected;
   /** The actual byte description. */
   public final String actual;
+  private final long offsetAsLong;
 
   /**
    * Builds a new instance.
@@ -38,18 +42,41 @@ public class BinaryDiffResult {
    * @param actual the actual byte in the same format.
    */
   public BinaryDiffResult(int offset, int expected, int actual) {
-    this.offset = offset;
+    this((long) offset, expected, actual);
+  }
+
+  /**
+   * Builds a new instance.
+   *
+   * @param offset the offset at which the difference occurred, which can be past 2 GB.
+   * @param expected the expected byte as an int in the range 0 to 255, or -1 for EOF.
+   * @param actual the actual byte in the same format.
+   * @since 4.0.0
+   */
+  public BinaryDiffResult(long offset, int expected, int actual) {
+    this.offset = (int) Math.min(offset, Integer.MAX_VALUE);
+    this.offsetAsLong = offset;
     this.expected = describe(expected);
     this.actual = describe(actual);
   }
 
+  /**
+   * Returns the offset of the first difference, including differences past 2 GB.
+   *
+   * @return the offset of the first difference
+   * @since 4.0.0
+   */
+  public long offsetAsLong() {
+    return offsetAsLong;
+  }
+
   /**
    * Checks whether no difference was found.
    *
    * @return whether no difference was found
    */
   public boolean hasNoDiff() {
-    return offset == EOF;
+    return offsetAsLong == EOF;
   }
 
   /**
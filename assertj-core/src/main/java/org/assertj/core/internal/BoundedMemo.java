@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread safe memo of values computed from their keys, holding at most a given number of values.
+ * <p>
+ * Keys like field location paths can be unbounded (map keys are part of the paths), the memo is cleared when it is full
+ * rather than growing with the compared graphs, frequently used keys are then memoized again on their next lookup.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the memoized values
+ */
+public final class BoundedMemo<K, V> {
+
+  private final Map<K, V> values = new ConcurrentHashMap<>();
+  private final int maxSize;
+
+  /**
+   * Creates a memo holding at most the given number of values.
+   *
+   * @param maxSize the maximum number of memoized values
+   * @throws IllegalArgumentException if the given size is not strictly positive
+   */
+  public BoundedMemo(int maxSize) {
+    checkArgument(maxSize > 0, "maxSize must be > 0, but was %s", maxSize);
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the value memoized for the given key, computing and memoizing it if absent.
+   *
+   * @param key the key of the value, must not be {@code null}
+   * @param function the function computing the value of the key, must not return {@code null}
+   * @return the value of the given key
+   */
+  public V get(K key, Function<? super K, ? extends V> function) {
+    V value = values.get(key);
+    if (value != null) return value;
+    // computed outside any lock, in the worst case a value is computed twice by concurrent lookups
+    value = function.apply(key);
+    if (values.size() >= maxSize) values.clear();
+    values.put(key, value);
+    return value;
+  }
+
+  /**
+   * Removes all the memoized values, typically when they no longer match what the function would compute.
+   */
+  public void clear() {
+    values.clear();
+  }
+
+  int size() {
+    return values.size();
+  }
+
+}
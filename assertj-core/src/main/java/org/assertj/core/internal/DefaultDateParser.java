@@ -0,0 +1,152 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+import java.sql.Timestamp;
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Parses dates represented as strings with the default date formats of String based Date assertions, that is
+ * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME ISO_OFFSET_DATE_TIME}, {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME
+ * ISO_LOCAL_DATE_TIME}, {@link DateTimeFormatter#ISO_LOCAL_DATE ISO_LOCAL_DATE} and the {@link Timestamp} format.
+ * <p>
+ * The shape of the string selects the formats that can match it: ISO formats don't allow spaces contrary to the
+ * {@link Timestamp} format and a 10 characters long string can only be an ISO local date. The candidate ISO formats are
+ * checked with {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)} which does not throw when the string
+ * does not match, the string is only parsed once a format is known to match it.
+ * <p>
+ * The parsed dates are cached as the same few date strings are often used across assertions, the least recently used
+ * ones are evicted when the cache is full.
+ */
+public final class DefaultDateParser {
+
+  private static final int ISO_LOCAL_DATE_LENGTH = "yyyy-MM-dd".length();
+  private static final int MAX_CACHED_DATES = 100;
+
+  private static final DateParser OFFSET_DATE_TIME_PARSER = new DateParser(ISO_OFFSET_DATE_TIME,
+                                                                           (s, zone) -> OffsetDateTime.parse(s).toInstant());
+  private static final DateParser LOCAL_DATE_TIME_PARSER = new DateParser(ISO_LOCAL_DATE_TIME,
+                                                                          (s, zone) -> LocalDateTime.parse(s)
+                                                                                                    .atZone(zone)
+                                                                                                    .toInstant());
+  private static final DateParser LOCAL_DATE_PARSER = new DateParser(ISO_LOCAL_DATE,
+                                                                     (s, zone) -> LocalDate.parse(s)
+                                                                                           .atStartOfDay(zone)
+                                                                                           .toInstant());
+  // try from more specific to less specific ISO formats
+  private static final List<DateParser> ISO_DATE_PARSERS = List.of(OFFSET_DATE_TIME_PARSER, LOCAL_DATE_TIME_PARSER,
+                                                                   LOCAL_DATE_PARSER);
+
+  private static final Map<DateKey, Long> DATES = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<DateKey, Long> eldest) {
+      return size() > MAX_CACHED_DATES;
+    }
+  };
+
+  private DefaultDateParser() {}
+
+  /**
+   * Parses the given string with the default date formats, local dates and date times being expressed in the current
+   * default time zone.
+   *
+   * @param dateAsString the string to parse as a Date
+   * @return the corresponding Date or {@code null} if the string does not match any of the default date formats.
+   */
+  public static Date parse(String dateAsString) {
+    // local dates and date times depend on the default time zone which can be changed
+    DateKey key = new DateKey(dateAsString, ZoneId.systemDefault());
+    Long epochMilli;
+    synchronized (DATES) {
+      epochMilli = DATES.get(key);
+    }
+    if (epochMilli == null) {
+      epochMilli = epochMilliOf(key);
+      if (epochMilli == null) return null;
+      synchronized (DATES) {
+        DATES.put(key, epochMilli);
+      }
+    }
+    // Date is mutable, always return a new one
+    return new Date(epochMilli);
+  }
+
+  private static Long epochMilliOf(DateKey key) {
+    String dateAsString = key.dateAsString();
+    if (dateAsString.indexOf(' ') >= 0) return timestampEpochMilliOf(dateAsString);
+    if (dateAsString.length() == ISO_LOCAL_DATE_LENGTH) return LOCAL_DATE_PARSER.epochMilliOf(dateAsString, key.zone());
+    for (DateParser dateParser : ISO_DATE_PARSERS) {
+      Long epochMilli = dateParser.epochMilliOf(dateAsString, key.zone());
+      if (epochMilli != null) return epochMilli;
+    }
+    return null;
+  }
+
+  private static Long timestampEpochMilliOf(String dateAsString) {
+    try {
+      return Timestamp.valueOf(dateAsString).getTime();
+    } catch (@SuppressWarnings("unused") IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  static int size() {
+    synchronized (DATES) {
+      return DATES.size();
+    }
+  }
+
+  private record DateParser(DateTimeFormatter formatter, BiFunction<String, ZoneId, Instant> parser) {
+
+    Long epochMilliOf(String dateAsString, ZoneId zone) {
+      if (!matches(dateAsString)) return null;
+      try {
+        // the string matches the format but can still be invalid, ex: 2003-02-30
+        return parser.apply(dateAsString, zone).toEpochMilli();
+      } catch (@SuppressWarnings("unused") DateTimeParseException | ArithmeticException e) {
+        // ArithmeticException is thrown when the instant can't be expressed as epoch milliseconds
+        return null;
+      }
+    }
+
+    private boolean matches(String dateAsString) {
+      ParsePosition position = new ParsePosition(0);
+      return formatter.parseUnresolved(dateAsString, position) != null
+             && position.getErrorIndex() < 0
+             && position.getIndex() == dateAsString.length();
+    }
+  }
+
+  private record DateKey(String dateAsString, ZoneId zone) {
+  }
+
+}
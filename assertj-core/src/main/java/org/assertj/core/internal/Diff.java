@@ -15,27 +15,50 @@
  */
 package org.assertj.core.internal;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
 
 /**
  * Compares the contents of two files, inputStreams or paths.
+ * <p>
+ * The contents are streamed: the common lines are skipped without being kept in memory, then only a bounded window of
+ * lines starting at the first different line is buffered and diffed. As a consequence, the number of reported deltas is
+ * capped and the differences located after the window are not reported, the returned deltas are then a
+ * {@link TruncatedDeltas} for error messages to tell that further differences were not reported.
+ * <p>
+ * When the default charset encodes line breaks as single bytes that can't be part of other characters (like UTF-8), input
+ * streams are first compared byte by byte in chunks, they are only decoded and split into lines from the first line
+ * where their bytes differ.
  * 
  * @author David DIDIER
  * @author Alex Ruiz
@@ -48,6 +71,14 @@ import org.assertj.core.util.diff.Patch;
 // TODO reduce the visibility of the fields annotated with @VisibleForTesting
 public class Diff {
 
+  /** The number of lines compared from the first different line. */
+  public static final int WINDOW_SIZE = 1_000;
+  /** The maximum number of reported deltas. */
+  public static final int MAX_DELTAS = 100;
+  private static final int BUFFER_SIZE = 8192;
+  // charsets where '\n' and '\r' bytes are always line breaks, whatever the bytes around them
+  private static final Set<Charset> LINE_BREAK_SAFE_CHARSETS = Set.of(UTF_8, US_ASCII, ISO_8859_1);
+
   /** Creates a new text difference calculator. */
   public Diff() {}
 
@@ -61,7 +92,8 @@ public class Diff {
    * @throws IOException if a stream cannot be read
    */
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
-    return diff(readerFor(actual), readerFor(expected));
+    if (!LINE_BREAK_SAFE_CHARSETS.contains(Charset.defaultCharset())) return diff(readerFor(actual), readerFor(expected));
+    return diffBytesThenLines(actual, expected);
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -143,24 +175,161 @@ public class Diff {
     return new BufferedReader(new StringReader(string));
   }
 
+  private List<Delta<String>> diffBytesThenLines(InputStream actual, InputStream expected) throws IOException {
+    byte[] actualBuffer = new byte[BUFFER_SIZE];
+    byte[] expectedBuffer = new byte[BUFFER_SIZE];
+    // bytes of the current common line, they are needed to diff it if the streams differ before its end
+    ByteArrayOutputStream currentLine = new ByteArrayOutputStream();
+    int commonLines = 0;
+    boolean pendingCarriageReturn = false;
+    try {
+      while (true) {
+        int actualLength = fill(actualBuffer, actual);
+        int expectedLength = fill(expectedBuffer, expected);
+        int mismatch = Arrays.mismatch(actualBuffer, 0, actualLength, expectedBuffer, 0, expectedLength);
+        int commonLength = mismatch == -1 ? actualLength : mismatch;
+        int currentLineStart = -1;
+        for (int i = 0; i < commonLength; i++) {
+          byte b = actualBuffer[i];
+          if (pendingCarriageReturn) {
+            // a line ends with '\r', '\n' or "\r\n" like in BufferedReader.readLine()
+            pendingCarriageReturn = false;
+            commonLines++;
+            currentLineStart = b == '\n' ? i + 1 : i;
+            if (b == '\n') continue;
+          }
+          if (b == '\n') {
+            commonLines++;
+            currentLineStart = i + 1;
+          } else if (b == '\r') {
+            // the line is complete once we know whether '\n' follows
+            pendingCarriageReturn = true;
+          }
+        }
+        if (currentLineStart == -1) {
+          currentLine.write(actualBuffer, 0, commonLength);
+        } else {
+          currentLine.reset();
+          currentLine.write(actualBuffer, currentLineStart, commonLength - currentLineStart);
+        }
+        if (mismatch == -1 && actualLength < BUFFER_SIZE) return emptyList(); // reached end of both streams
+        if (mismatch != -1) {
+          byte[] commonLineStart = currentLine.toByteArray();
+          return diff(readerFor(remainingContent(commonLineStart, actualBuffer, mismatch, actualLength, actual)),
+                      readerFor(remainingContent(commonLineStart, expectedBuffer, mismatch, expectedLength, expected)),
+                      commonLines);
+        }
+      }
+    } finally {
+      closeQuietly(actual, expected);
+    }
+  }
+
+  // reads less than the buffer size only at the end of the stream
+  private static int fill(byte[] buffer, InputStream stream) throws IOException {
+    int length = 0;
+    while (length < buffer.length) {
+      int read = stream.read(buffer, length, buffer.length - length);
+      if (read == -1) break;
+      length += read;
+    }
+    return length;
+  }
+
+  private static InputStream remainingContent(byte[] commonLineStart, byte[] buffer, int from, int length,
+                                              InputStream stream) {
+    byte[] head = Arrays.copyOf(commonLineStart, commonLineStart.length + length - from);
+    System.arraycopy(buffer, from, head, commonLineStart.length, length - from);
+    return new SequenceInputStream(new ByteArrayInputStream(head), stream);
+  }
+
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
+    return diff(actual, expected, 0);
+  }
+
+  private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected, int skippedLines) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
+      int commonLines = skippedLines;
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        commonLines++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      if (actualLine == null && expectedLine == null) return emptyList();
 
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      Window actualWindow = window(actualLine, actual);
+      Window expectedWindow = window(expectedLine, expected);
+      Patch<String> patch = DiffUtils.diff(expectedWindow.lines(), actualWindow.lines());
+      List<Delta<String>> deltas = new ArrayList<>();
+      // lines after a truncated window are not compared, they may differ
+      boolean truncated = actualWindow.truncated() || expectedWindow.truncated();
+      for (Delta<String> delta : patch.getDeltas()) {
+        if (deltas.size() == MAX_DELTAS) {
+          truncated = true;
+          break;
+        }
+        // lines at the end of a truncated window may match lines after it, the first delta is always accurate though
+        if (!deltas.isEmpty() && (expectedWindow.reachesTruncatedEnd(delta.getOriginal())
+                                  || actualWindow.reachesTruncatedEnd(delta.getRevised()))) {
+          break;
+        }
+        deltas.add(shift(delta, commonLines));
+      }
+      return truncated ? new TruncatedDeltas(deltas) : unmodifiableList(deltas);
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
+  private static Window window(String firstLine, BufferedReader reader) throws IOException {
     List<String> lines = new ArrayList<>();
-    while ((line = reader.readLine()) != null) {
+    String line = firstLine;
+    while (line != null && lines.size() < WINDOW_SIZE) {
       lines.add(line);
+      line = reader.readLine();
+    }
+    return new Window(lines, line != null);
+  }
+
+  private static Delta<String> shift(Delta<String> delta, int offset) {
+    Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + offset, delta.getOriginal().getLines());
+    Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + offset, delta.getRevised().getLines());
+    return switch (delta.getType()) {
+      case CHANGE -> new ChangeDelta<>(original, revised);
+      case DELETE -> new DeleteDelta<>(original, revised);
+      case INSERT -> new InsertDelta<>(original, revised);
+    };
+  }
+
+  private record Window(List<String> lines, boolean truncated) {
+
+    boolean reachesTruncatedEnd(Chunk<String> chunk) {
+      return truncated && chunk.last() >= lines.size() - 1;
+    }
+  }
+
+  /**
+   * The deltas reported when the comparison stopped before the end of the contents, either because the compared window of
+   * lines was truncated or because the maximum number of reported deltas was reached, further differences may thus exist.
+   */
+  public static final class TruncatedDeltas extends AbstractList<Delta<String>> {
+
+    private final List<Delta<String>> deltas;
+
+    TruncatedDeltas(List<Delta<String>> deltas) {
+      this.deltas = deltas;
+    }
+
+    @Override
+    public Delta<String> get(int index) {
+      return deltas.get(index);
+    }
+
+    @Override
+    public int size() {
+      return deltas.size();
     }
-    return lines;
   }
 }
@@ -16,6 +16,7 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Strings.isNullOrEmpty;
 
 import java.lang.management.ManagementFactory;
@@ -82,6 +83,70 @@ public class Failures {
     return removeAssertJRelatedElementsFromStackTrace;
   }
 
+  /**
+   * flag indicating whether or not assertion errors stack trace only contains user frames captured with a {@link StackWalker}.
+   */
+  private boolean captureOnlyUserStackFrames = Configuration.CAPTURE_ONLY_USER_STACK_FRAMES;
+
+  /**
+   * maximum number of user frames captured when {@link #captureOnlyUserStackFrames} is enabled.
+   */
+  private int maxCapturedUserStackFrames = Configuration.MAX_CAPTURED_USER_STACK_FRAMES;
+
+  /**
+   * Sets whether the stack trace of assertion errors only contains user frames, i.e. frames that come neither from AssertJ
+   * nor from the {@code java} and {@code jdk} packages, this is only effective when elements related to AssertJ are removed
+   * from assertion error stack trace.
+   * <p>
+   * The user frames are captured with a {@link StackWalker} filtering frames while walking the stack instead of
+   * materializing the whole stack trace and filtering it afterward, combined with
+   * {@link #setMaxCapturedUserStackFrames(int)} the walk stops early which is cheaper for deep stacks.
+   * <p>
+   * The assertion error still fills in its own stack trace when created and the stack is then walked a second time, this is
+   * only faster than the default stack trace filtering when a few user frames are captured, which is why the maximum number
+   * of captured user frames defaults to {@value Configuration#MAX_CAPTURED_USER_STACK_FRAMES}.
+   *
+   * @param captureOnlyUserStackFrames flag
+   * @since 4.0.0
+   */
+  public void setCaptureOnlyUserStackFrames(boolean captureOnlyUserStackFrames) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    this.captureOnlyUserStackFrames = captureOnlyUserStackFrames;
+  }
+
+  /**
+   * Returns whether the stack trace of assertion errors only contains user frames.
+   * @return whether the stack trace of assertion errors only contains user frames.
+   * @since 4.0.0
+   */
+  public boolean isCaptureOnlyUserStackFrames() {
+    return captureOnlyUserStackFrames;
+  }
+
+  /**
+   * Sets the maximum number of user frames captured when the stack trace of assertion errors only contains user frames,
+   * the stack walk stops once that number of user frames is reached.
+   *
+   * @param maxCapturedUserStackFrames the maximum number of captured user frames, must be greater than 0.
+   * @throws IllegalArgumentException if {@code maxCapturedUserStackFrames} is less than 1.
+   * @since 4.0.0
+   */
+  public void setMaxCapturedUserStackFrames(int maxCapturedUserStackFrames) {
+    checkArgument(maxCapturedUserStackFrames > 0, "maxCapturedUserStackFrames must be > 0, but was %s",
+                  maxCapturedUserStackFrames);
+    ConfigurationProvider.loadRegisteredConfiguration();
+    this.maxCapturedUserStackFrames = maxCapturedUserStackFrames;
+  }
+
+  /**
+   * Returns the maximum number of user frames captured when the stack trace of assertion errors only contains user frames.
+   * @return the maximum number of user frames captured.
+   * @since 4.0.0
+   */
+  public int getMaxCapturedUserStackFrames() {
+    return maxCapturedUserStackFrames;
+  }
+
   private Failures() {}
 
   /**
@@ -226,10 +291,18 @@ public class Failures {
    at java.base/java.util.ArrayList.forEach(ArrayList.java:1596)
    at java.base/java.util.ArrayList.forEach(ArrayList.java:1596)</code></pre>
    *
+   * <p>
+   * If {@link #captureOnlyUserStackFrames} is also true, the stack trace is replaced by the user frames of the current thread
+   * (see {@link #setCaptureOnlyUserStackFrames(boolean)}), the given {@link AssertionError} is then expected to have been
+   * created in the current thread.
+   *
    * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
    */
   public void removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError assertionError) {
-    if (removeAssertJRelatedElementsFromStackTrace) {
+    if (!removeAssertJRelatedElementsFromStackTrace) return;
+    if (captureOnlyUserStackFrames) {
+      Throwables.captureUserStackFramesOfCurrentThread(assertionError, maxCapturedUserStackFrames);
+    } else {
       Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
     }
   }
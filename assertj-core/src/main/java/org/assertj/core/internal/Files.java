@@ -16,7 +16,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.walk;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
@@ -136,7 +135,7 @@ public class Files {
       try {
         // MalformedInputException is thrown by readLine() called in diff
         // compute a binary diff, if there is a binary diff, it it shows the offset of the malformed input
-        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual.toPath(), expected.toPath());
         if (binaryDiffResult.hasNoDiff()) {
           // fall back to the UncheckedIOException : not throwing an error is wrong as there was one in the first place.
           throw e;
@@ -167,7 +166,7 @@ public class Files {
     verifyIsFile(expected);
     assertIsFile(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual.toPath(), expected.toPath());
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(UNABLE_TO_COMPARE_FILE_CONTENTS.formatted(actual, expected), ioe);
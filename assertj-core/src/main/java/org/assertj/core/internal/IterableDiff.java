@@ -19,7 +19,9 @@ import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
@@ -37,10 +39,24 @@ class IterableDiff<T> {
 
   IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     this.comparisonStrategy = comparisonStrategy;
-    // return the elements in actual that are not in expected: actual - expected
-    this.unexpected = unexpectedActualElements(actual, expected);
-    // return the elements in expected that are not in actual: expected - actual
-    this.missing = missingActualElements(actual, expected);
+    if (isHashBased(comparisonStrategy)) {
+      // equal elements should have the same hash code, count them instead of scanning the other iterable for each element
+      List<T> notCountedActualElements = elementsNotCounted(actual, expected);
+      List<T> notCountedExpectedElements = elementsNotCounted(expected, actual);
+      // elements whose hashCode is not consistent with equals are not counted, scan the remaining ones to match them
+      boolean bothHaveRemainingElements = !notCountedActualElements.isEmpty() && !notCountedExpectedElements.isEmpty();
+      this.unexpected = bothHaveRemainingElements
+          ? unexpectedActualElements(notCountedActualElements, notCountedExpectedElements)
+          : notCountedActualElements;
+      this.missing = bothHaveRemainingElements
+          ? missingActualElements(notCountedActualElements, notCountedExpectedElements)
+          : notCountedExpectedElements;
+    } else {
+      // return the elements in actual that are not in expected: actual - expected
+      this.unexpected = unexpectedActualElements(actual, expected);
+      // return the elements in expected that are not in actual: expected - actual
+      this.missing = missingActualElements(actual, expected);
+    }
   }
 
   static <T> IterableDiff<T> diff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
@@ -51,6 +67,21 @@ class IterableDiff<T> {
     return diff(actual, expected, StandardComparisonStrategy.instance());
   }
 
+  /**
+   * Returns whether elements compared with the given strategy can be counted in a hash based multiset, this is the case
+   * for the standard strategy which relies on {@code equals} (and thus {@code hashCode}) but not for subclasses that can
+   * change how elements are compared.
+   * <p>
+   * Elements whose {@code hashCode} is not consistent with {@code equals} may not be counted, the elements left on both
+   * sides are then compared as the other strategies do.
+   *
+   * @param comparisonStrategy the comparison strategy to check
+   * @return whether elements compared with the given strategy can be counted in a hash based multiset
+   */
+  static boolean isHashBased(ComparisonStrategy comparisonStrategy) {
+    return comparisonStrategy.getClass() == StandardComparisonStrategy.class;
+  }
+
   boolean differencesFound() {
     return !unexpected.isEmpty() || !missing.isEmpty();
   }
@@ -101,6 +132,26 @@ class IterableDiff<T> {
     return unmodifiableList(missingInExpected);
   }
 
+  /**
+   * Returns the elements of the first iterable that are not matched by an element of the second one, each element of the
+   * second iterable matching at most one element of the first one, i.e. first - second.
+   * <p>
+   * Unmatched elements are returned in the first iterable order as the linear scan of both iterables would do.
+   */
+  private static <T> List<T> elementsNotCounted(Iterable<T> first, Iterable<T> second) {
+    Map<Element, Count> counts = new HashMap<>();
+    for (T element : second) {
+      counts.computeIfAbsent(new Element(element), key -> new Count()).value++;
+    }
+    List<T> notCounted = new ArrayList<>();
+    for (T element : first) {
+      Count count = counts.get(new Element(element));
+      if (count != null && count.value > 0) count.value--;
+      else notCounted.add(element);
+    }
+    return unmodifiableList(notCounted);
+  }
+
   private boolean iterableContains(Iterable<?> actual, T expectedElement) {
     return comparisonStrategy.iterableContains(actual, expectedElement);
   }
@@ -108,4 +159,24 @@ class IterableDiff<T> {
   private void iterablesRemoveFirst(Iterable<?> actual, T value) {
     comparisonStrategy.iterablesRemoveFirst(actual, value);
   }
+
+  // wraps elements so that they are hashed and compared as the standard comparison strategy does, i.e. deeply for arrays
+  private record Element(Object value) {
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Element element && StandardComparisonStrategy.instance().areEqual(value, element.value);
+    }
+
+    @Override
+    public int hashCode() {
+      if (value == null) return 0;
+      // deepHashCode is consistent with the arrays comparison whatever their component type
+      return value.getClass().isArray() ? java.util.Arrays.deepHashCode(new Object[] { value }) : value.hashCode();
+    }
+  }
+
+  private static class Count {
+    int value;
+  }
 }
@@ -19,6 +19,7 @@ import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.comparisonstrategy.SortedMergeMatcher.sortedMergeMatcher;
 import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
 import static org.assertj.core.error.ConditionAndGroupGenericParameterTypeShouldBeTheSame.shouldBeSameGenericBetweenIterableAndCondition;
 import static org.assertj.core.error.ElementsShouldBe.elementsShouldBe;
@@ -79,6 +80,7 @@ import static org.assertj.core.internal.ErrorMessages.emptySubsequence;
 import static org.assertj.core.internal.ErrorMessages.nullSequence;
 import static org.assertj.core.internal.ErrorMessages.nullSubsequence;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.IterableDiff.isHashBased;
 import static org.assertj.core.util.Arrays.asList;
 import static org.assertj.core.util.Arrays.prepend;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
@@ -109,6 +111,7 @@ import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
 import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.SortedMergeMatcher;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.error.UnsatisfiedRequirement;
@@ -360,8 +363,10 @@ public class Iterables {
 
   private void assertIterableContainsGivenValues(@SuppressWarnings("rawtypes") Class<? extends Iterable> clazz,
                                                  Iterable<?> actual, Object[] values, AssertionInfo info) {
-    Set<Object> notFound = stream(values).filter(value -> !iterableContains(actual, value))
-                                         .collect(toCollection(LinkedHashSet::new));
+    Optional<SortedMergeMatcher> sortedMergeMatcher = sortedMergeMatcher(comparisonStrategy, actual, asList(values));
+    Set<Object> notFound = sortedMergeMatcher.isPresent()
+        ? new LinkedHashSet<>(sortedMergeMatcher.get().unmatchedValues())
+        : stream(values).filter(value -> !iterableContains(actual, value)).collect(toCollection(LinkedHashSet::new));
     if (notFound.isEmpty())
       return;
     throw failures.failure(info, shouldContain(clazz, actual, values, notFound, comparisonStrategy));
@@ -626,8 +631,10 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
-                                       .collect(toList());
+    Optional<SortedMergeMatcher> sortedMergeMatcher = sortedMergeMatcher(comparisonStrategy, actual, values);
+    List<Object> extra = sortedMergeMatcher.isPresent()
+        ? sortedMergeMatcher.get().unmatchedActual()
+        : stream(actual).filter(actualElement -> !iterableContains(values, actualElement)).collect(toList());
     if (!extra.isEmpty()) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
@@ -684,9 +691,14 @@ public class Iterables {
   public void assertDoesNotContain(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, actual);
+    Optional<SortedMergeMatcher> sortedMergeMatcher = sortedMergeMatcher(comparisonStrategy, actual, asList(values));
     Set<Object> found = new LinkedHashSet<>();
-    for (Object o : values) {
-      if (iterableContains(actual, o)) found.add(o);
+    if (sortedMergeMatcher.isPresent()) {
+      found.addAll(sortedMergeMatcher.get().matchedValues());
+    } else {
+      for (Object o : values) {
+        if (iterableContains(actual, o)) found.add(o);
+      }
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(actual, values, found, comparisonStrategy));
   }
@@ -1475,9 +1487,14 @@ public class Iterables {
     if (commonCheckThatIterableAssertionSucceeds(info, failures, actual, values))
       return;
 
-    Iterable<Object> valuesToSearchFor = newArrayList(values);
-    for (Object element : actual) {
-      if (iterableContains(valuesToSearchFor, element)) return;
+    Optional<SortedMergeMatcher> sortedMergeMatcher = sortedMergeMatcher(comparisonStrategy, actual, asList(values));
+    if (sortedMergeMatcher.isPresent()) {
+      if (sortedMergeMatcher.get().anyMatch()) return;
+    } else {
+      Iterable<Object> valuesToSearchFor = newArrayList(values);
+      for (Object element : actual) {
+        if (iterableContains(valuesToSearchFor, element)) return;
+      }
     }
     throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
   }
@@ -1492,6 +1509,19 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
+    if (isHashBased(comparisonStrategy)) {
+      IterableDiff<Object> diff = diff(newArrayList(actual), asList(values), comparisonStrategy);
+      if (!diff.differencesFound()) return;
+      throw failures.failure(info,
+                             shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected, comparisonStrategy));
+    }
+    Optional<SortedMergeMatcher> sortedMergeMatcher = sortedMergeMatcher(comparisonStrategy, actual, asList(values));
+    if (sortedMergeMatcher.isPresent()) {
+      List<Object> notFound = sortedMergeMatcher.get().unpairedValues();
+      List<Object> notExpected = sortedMergeMatcher.get().unpairedActual();
+      if (notExpected.isEmpty() && notFound.isEmpty()) return;
+      throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+    }
     List<Object> notExpected = newArrayList(actual);
     List<Object> notFound = newArrayList(values);
 
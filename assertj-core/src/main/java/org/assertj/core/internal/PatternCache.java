@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.assertj.core.configuration.Configuration;
+
+/**
+ * A bounded cache of compiled regular expressions used by regex based assertions.
+ * <p>
+ * Assertions are often called with the same few regexes on a lot of values, compiling them once avoids recompiling
+ * them on each call. The least recently used patterns are evicted when the cache is full.
+ */
+public final class PatternCache {
+
+  private static final Map<PatternKey, Pattern> PATTERNS = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<PatternKey, Pattern> eldest) {
+      return size() > maxSize;
+    }
+  };
+
+  private static volatile int maxSize = Configuration.MAX_CACHED_PATTERNS;
+
+  private PatternCache() {}
+
+  /**
+   * Returns the compiled pattern of the given regex, compiling it only if it is not cached.
+   *
+   * @param regex the regular expression to compile
+   * @return the compiled pattern
+   * @throws java.util.regex.PatternSyntaxException if the regex syntax is invalid
+   */
+  public static Pattern compile(String regex) {
+    return compile(regex, 0);
+  }
+
+  /**
+   * Returns the compiled pattern of the given regex and flags, compiling it only if it is not cached.
+   *
+   * @param regex the regular expression to compile
+   * @param flags the {@link Pattern} match flags
+   * @return the compiled pattern
+   * @throws java.util.regex.PatternSyntaxException if the regex syntax is invalid
+   */
+  public static Pattern compile(String regex, int flags) {
+    PatternKey key = new PatternKey(regex, flags);
+    synchronized (PATTERNS) {
+      Pattern pattern = PATTERNS.get(key);
+      if (pattern != null) return pattern;
+    }
+    // compile outside the lock, in the worst case a pattern is compiled twice
+    Pattern pattern = Pattern.compile(regex, flags);
+    synchronized (PATTERNS) {
+      PATTERNS.put(key, pattern);
+    }
+    return pattern;
+  }
+
+  /**
+   * Sets the maximum number of cached patterns, 0 disables the cache.
+   *
+   * @param maxCachedPatterns the maximum number of cached patterns
+   * @throws IllegalArgumentException if the given value is negative
+   */
+  public static void setMaxSize(int maxCachedPatterns) {
+    checkArgument(maxCachedPatterns >= 0, "maxCachedPatterns must be >= 0, but was %s", maxCachedPatterns);
+    synchronized (PATTERNS) {
+      maxSize = maxCachedPatterns;
+      PATTERNS.clear();
+    }
+  }
+
+  /**
+   * Returns the maximum number of cached patterns.
+   *
+   * @return the maximum number of cached patterns
+   */
+  public static int getMaxSize() {
+    return maxSize;
+  }
+
+  static int size() {
+    synchronized (PATTERNS) {
+      return PATTERNS.size();
+    }
+  }
+
+  private record PatternKey(String regex, int flags) {
+  }
+
+}
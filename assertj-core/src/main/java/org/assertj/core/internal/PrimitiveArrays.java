@@ -0,0 +1,190 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Float.floatToIntBits;
+
+/**
+ * Checks on primitive arrays whose elements are compared with equals (i.e. without a custom comparator) that don't box
+ * the array elements.
+ * <p>
+ * Each check only tells whether the assertion passes, {@code false} is returned when the given arrays are not primitive
+ * arrays of the same type or are {@code null}. Failing assertions are meant to be evaluated again by the generic (boxing)
+ * code paths which report the errors, boxing is thus only paid for when an assertion fails.
+ * <p>
+ * Elements are compared through a {@code long} key consistent with the equals method of their wrapper type, that is
+ * their value for integral types, {@code 0} or {@code 1} for booleans and their bits for floating point values (as
+ * {@link Double#equals(Object)}, {@code NaN} is equal to itself and {@code 0.0} is not equal to {@code -0.0}).
+ */
+final class PrimitiveArrays {
+
+  // below this number of values, looking each of them up is cheaper than sorting the array elements
+  private static final int LINEAR_LOOKUP_MAX_VALUES = 8;
+
+  private PrimitiveArrays() {}
+
+  static boolean containsAll(Object actual, Object values) {
+    if (!areNonEmptyPrimitiveArraysOfSameType(actual, values)) return false;
+    long[] actualKeys = keysOf(actual);
+    long[] valuesKeys = keysOf(values);
+    if (valuesKeys.length <= LINEAR_LOOKUP_MAX_VALUES) {
+      for (long value : valuesKeys) {
+        if (indexOf(actualKeys, value) < 0) return false;
+      }
+      return true;
+    }
+    java.util.Arrays.sort(actualKeys);
+    for (long value : valuesKeys) {
+      if (java.util.Arrays.binarySearch(actualKeys, value) < 0) return false;
+    }
+    return true;
+  }
+
+  static boolean containsOnly(Object actual, Object values) {
+    if (!areNonEmptyPrimitiveArraysOfSameType(actual, values)) return false;
+    // same distinct elements
+    return java.util.Arrays.equals(sortedDistinctKeysOf(actual), sortedDistinctKeysOf(values));
+  }
+
+  static boolean containsExactly(Object actual, Object values) {
+    if (!areNonEmptyPrimitiveArraysOfSameType(actual, values)) return false;
+    return java.util.Arrays.equals(keysOf(actual), keysOf(values));
+  }
+
+  static boolean containsSequence(Object actual, Object sequence) {
+    if (!areNonEmptyPrimitiveArraysOfSameType(actual, sequence)) return false;
+    long[] actualKeys = keysOf(actual);
+    long[] sequenceKeys = keysOf(sequence);
+    int lastIndexWhereSequenceCanBeFound = actualKeys.length - sequenceKeys.length;
+    for (int i = 0; i <= lastIndexWhereSequenceCanBeFound; i++) {
+      if (java.util.Arrays.equals(actualKeys, i, i + sequenceKeys.length, sequenceKeys, 0, sequenceKeys.length)) return true;
+    }
+    return false;
+  }
+
+  static boolean doesNotHaveDuplicates(Object actual) {
+    if (!isPrimitiveArray(actual)) return false;
+    long[] sortedKeys = keysOf(actual);
+    java.util.Arrays.sort(sortedKeys);
+    for (int i = 1; i < sortedKeys.length; i++) {
+      if (sortedKeys[i - 1] == sortedKeys[i]) return false;
+    }
+    return true;
+  }
+
+  static boolean isSorted(Object actual) {
+    // elements are compared as their wrapper type compareTo does
+    if (actual instanceof double[] array) {
+      for (int i = 1; i < array.length; i++) {
+        if (Double.compare(array[i - 1], array[i]) > 0) return false;
+      }
+      return true;
+    }
+    if (actual instanceof float[] array) {
+      for (int i = 1; i < array.length; i++) {
+        if (Float.compare(array[i - 1], array[i]) > 0) return false;
+      }
+      return true;
+    }
+    if (!isPrimitiveArray(actual)) return false;
+    // the keys of the other types are their value, char and boolean ones being positive
+    long[] keys = keysOf(actual);
+    for (int i = 1; i < keys.length; i++) {
+      if (keys[i - 1] > keys[i]) return false;
+    }
+    return true;
+  }
+
+  private static long[] keysOf(Object array) {
+    if (array instanceof int[] ints) {
+      long[] keys = new long[ints.length];
+      for (int i = 0; i < ints.length; i++) {
+        keys[i] = ints[i];
+      }
+      return keys;
+    }
+    if (array instanceof long[] longs) return longs.clone();
+    if (array instanceof double[] doubles) {
+      long[] keys = new long[doubles.length];
+      for (int i = 0; i < doubles.length; i++) {
+        keys[i] = doubleToLongBits(doubles[i]);
+      }
+      return keys;
+    }
+    if (array instanceof float[] floats) {
+      long[] keys = new long[floats.length];
+      for (int i = 0; i < floats.length; i++) {
+        keys[i] = floatToIntBits(floats[i]);
+      }
+      return keys;
+    }
+    if (array instanceof short[] shorts) {
+      long[] keys = new long[shorts.length];
+      for (int i = 0; i < shorts.length; i++) {
+        keys[i] = shorts[i];
+      }
+      return keys;
+    }
+    if (array instanceof byte[] bytes) {
+      long[] keys = new long[bytes.length];
+      for (int i = 0; i < bytes.length; i++) {
+        keys[i] = bytes[i];
+      }
+      return keys;
+    }
+    if (array instanceof char[] chars) {
+      long[] keys = new long[chars.length];
+      for (int i = 0; i < chars.length; i++) {
+        keys[i] = chars[i];
+      }
+      return keys;
+    }
+    boolean[] booleans = (boolean[]) array;
+    long[] keys = new long[booleans.length];
+    for (int i = 0; i < booleans.length; i++) {
+      keys[i] = booleans[i] ? 1 : 0;
+    }
+    return keys;
+  }
+
+  private static long[] sortedDistinctKeysOf(Object array) {
+    long[] keys = keysOf(array);
+    java.util.Arrays.sort(keys);
+    int distinct = 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (i == 0 || keys[i] != keys[distinct - 1]) keys[distinct++] = keys[i];
+    }
+    return java.util.Arrays.copyOf(keys, distinct);
+  }
+
+  private static int indexOf(long[] keys, long key) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] == key) return i;
+    }
+    return -1;
+  }
+
+  private static boolean isPrimitiveArray(Object array) {
+    return array != null && array.getClass().isArray() && array.getClass().getComponentType().isPrimitive();
+  }
+
+  private static boolean areNonEmptyPrimitiveArraysOfSameType(Object actual, Object values) {
+    // empty values are handled by the generic code paths that decide whether the assertion passes
+    return isPrimitiveArray(actual) && values != null && actual.getClass() == values.getClass()
+           && java.lang.reflect.Array.getLength(values) > 0;
+  }
+}
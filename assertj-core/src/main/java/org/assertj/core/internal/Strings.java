@@ -798,7 +798,7 @@ public class Strings {
   public void assertMatches(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (!Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldMatch(actual, regex));
+    if (!PatternCache.compile(regex.toString()).matcher(actual).matches()) throw failures.failure(info, shouldMatch(actual, regex));
   }
 
   /**
@@ -811,7 +811,7 @@ public class Strings {
   public void assertDoesNotMatch(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldNotMatch(actual, regex));
+    if (PatternCache.compile(regex.toString()).matcher(actual).matches()) throw failures.failure(info, shouldNotMatch(actual, regex));
   }
 
   private static void checkRegexIsNotNull(CharSequence regex) {
@@ -1104,7 +1104,7 @@ public class Strings {
    */
   public void assertContainsPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
-    assertContainsPattern(info, actual, Pattern.compile(regex.toString()));
+    assertContainsPattern(info, actual, PatternCache.compile(regex.toString()));
   }
 
   /**
@@ -1143,7 +1143,7 @@ public class Strings {
    */
   public void assertDoesNotContainPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
-    Pattern pattern = Pattern.compile(regex.toString());
+    Pattern pattern = PatternCache.compile(regex.toString());
     assertDoesNotContainPattern(info, actual, pattern);
   }
 
@@ -333,7 +333,7 @@ public class Throwables {
    */
   public void assertHasMessageMatching(AssertionInfo info, Throwable actual, String regex) {
     requireNonNull(regex, "regex must not be null");
-    assertHasMessageMatching(info, actual, Pattern.compile(regex));
+    assertHasMessageMatching(info, actual, PatternCache.compile(regex));
   }
 
   /**
@@ -351,7 +351,7 @@ public class Throwables {
     requireNonNull(regex, "regex must not be null");
     assertNotNull(info, actual);
     Objects.instance().assertNotNull(info, actual.getMessage(), "exception message of actual");
-    if (Pattern.compile(regex, Pattern.DOTALL).asPredicate().test(actual.getMessage())) return;
+    if (PatternCache.compile(regex, Pattern.DOTALL).asPredicate().test(actual.getMessage())) return;
     throw failures.failure(info, shouldHaveMessageFindingMatchRegex(actual, regex));
   }
 
@@ -30,6 +30,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.util.ClassNameComparator;
@@ -46,9 +47,16 @@ abstract class TypeHolder<T> {
   private static final Comparator<DualClass<?, ?>> DEFAULT_DUAL_CLASS_COMPARATOR = new DualClassComparator(ClassNameComparator.INSTANCE,
                                                                                                            ClassNameComparator.INSTANCE);
 
+  // marks looked up type pairs without relevant entity, ConcurrentHashMap does not support null values
+  private static final Object NO_ENTITY = new Object();
+
   /** The entities indexed by type pairs. */
   protected final Map<DualClass<?, ?>, T> typeHolder;
 
+  // the most relevant entities by looked up type pairs, resolving them is costly as it goes through the types hierarchy,
+  // must be cleared whenever the registered entities change.
+  private final Map<DualClass<?, ?>, Object> resolvedEntities = new ConcurrentHashMap<>();
+
   public TypeHolder() {
     this(DEFAULT_DUAL_CLASS_COMPARATOR);
   }
@@ -89,10 +97,17 @@ abstract class TypeHolder<T> {
    *                   This may be {@code null} to find the entity bound only to the {@code clazz}
    * @return the most relevant entity, or {@code null} if on entity could be found
    */
+  @SuppressWarnings("unchecked")
   public T get(Class<?> clazz, Class<?> otherClazz) {
-    Class<?> relevantType = getRelevantClass(clazz);
-    if (relevantType == null) return null;
-    return typeHolder.get(dualClass(relevantType, getRelevantClass(relevantType, otherClazz)));
+    Object entity = resolvedEntities.computeIfAbsent(dualClass(clazz, otherClazz), this::resolveEntity);
+    return entity == NO_ENTITY ? null : (T) entity;
+  }
+
+  private Object resolveEntity(DualClass<?, ?> dualClass) {
+    Class<?> relevantType = getRelevantClass(dualClass.actual());
+    if (relevantType == null) return NO_ENTITY;
+    T entity = typeHolder.get(dualClass(relevantType, getRelevantClass(relevantType, dualClass.expected())));
+    return entity == null ? NO_ENTITY : entity;
   }
 
   /**
@@ -115,6 +130,7 @@ abstract class TypeHolder<T> {
    */
   public void put(Class<?> clazz, Class<?> otherClazz, T entity) {
     typeHolder.put(dualClass(clazz, otherClazz), entity);
+    resolvedEntities.clear();
   }
 
   /**
@@ -152,6 +168,7 @@ abstract class TypeHolder<T> {
    */
   public void clear() {
     typeHolder.clear();
+    resolvedEntities.clear();
   }
 
   /**
@@ -50,6 +50,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.RandomAccess;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
@@ -116,6 +117,7 @@ public class StandardRepresentation implements Representation {
 
   private static int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
   private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+  private static int maxElementsIteratedForPrinting = Configuration.MAX_ELEMENTS_ITERATED_FOR_PRINTING;
   private static int maxStackTraceElementsDisplayed = Configuration.MAX_STACKTRACE_ELEMENTS_DISPLAYED;
 
   private static final Map<Class<?>, Function<?, ? extends CharSequence>> customFormatterByType = new HashMap<>();
@@ -165,11 +167,13 @@ public class StandardRepresentation implements Representation {
    * <ul>
    *   <li>{@code maxLengthForSingleLineDescription} = {@value org.assertj.core.configuration.Configuration#MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION} </li>
    *   <li>{@code maxElementsForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_ELEMENTS_FOR_PRINTING} </li>
+   *   <li>{@code maxElementsIteratedForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_ELEMENTS_ITERATED_FOR_PRINTING} </li>
    * </ul>
    */
   public static void resetDefaults() {
     maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
     maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+    maxElementsIteratedForPrinting = Configuration.MAX_ELEMENTS_ITERATED_FOR_PRINTING;
   }
 
   /**
@@ -232,6 +236,31 @@ public class StandardRepresentation implements Representation {
     return maxElementsForPrinting;
   }
 
+  /**
+   * Sets the maximum number of elements iterated to represent an {@link Iterable} that is not a {@link Collection}.
+   * <p>
+   * Such iterables can be huge or even infinite, when they have more elements than this limit only their first elements
+   * are represented followed by {@code ...}, ex: {@code [1, 2, 3, ...]}.
+   *
+   * @param value the maximum number of iterated elements
+   * @since 4.0.0
+   */
+  public static void setMaxElementsIteratedForPrinting(int value) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    checkArgument(value >= 1, "maxElementsIteratedForPrinting must be >= 1, but was %s", value);
+    maxElementsIteratedForPrinting = value;
+  }
+
+  /**
+   * Returns the maximum number of elements iterated to represent an {@link Iterable} that is not a {@link Collection}.
+   *
+   * @return the maximum number of iterated elements
+   * @since 4.0.0
+   */
+  public static int getMaxElementsIteratedForPrinting() {
+    return maxElementsIteratedForPrinting;
+  }
+
   /**
    * Registers new formatter for the given type. All instances of the given type will be formatted with the provided formatter.
    *
@@ -261,68 +290,109 @@ public class StandardRepresentation implements Representation {
   public String toStringOf(Object object) {
     if (object == null) return null;
     if (hasCustomFormatterFor(object)) return customFormat(object);
-    if (object instanceof ComparatorBasedComparisonStrategy strategy) return toStringOf(strategy);
-    if (object instanceof Calendar calendar) return toStringOf(calendar);
-    if (object instanceof Class<?> clazz) return toStringOf(clazz);
-    if (object instanceof Date date) return toStringOf(date);
-    if (object instanceof Duration duration) return toStringOf(duration);
-    if (object instanceof LocalDate date) return toStringOf(date);
-    if (object instanceof YearMonth month) return toStringOf(month);
-    if (object instanceof LocalDateTime time) return toStringOf(time);
-    if (object instanceof OffsetDateTime time) return toStringOf(time);
-    if (object instanceof ZonedDateTime time) return toStringOf(time);
-    if (object instanceof LongAdder adder) return toStringOf(adder);
+    return FORMATTER_BY_TYPE.get(object.getClass()).format(this, object);
+  }
+
+  /**
+   * Formats an object with one of the {@link StandardRepresentation} {@code toStringOf} methods, the formatter is resolved
+   * once per concrete type since the selected method only depends on the object type.
+   */
+  @FunctionalInterface
+  private interface TypeFormatter {
+    String format(StandardRepresentation representation, Object object);
+  }
+
+  private static final ClassValue<TypeFormatter> FORMATTER_BY_TYPE = new ClassValue<>() {
+    @Override
+    protected TypeFormatter computeValue(Class<?> type) {
+      return formatterFor(type);
+    }
+  };
+
+  // the checks order matters as some types implement several of the checked types
+  private static TypeFormatter formatterFor(Class<?> type) {
+    if (ComparatorBasedComparisonStrategy.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((ComparatorBasedComparisonStrategy) object);
+    if (Calendar.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Calendar) object);
+    if (Class.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Class<?>) object);
+    if (Date.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Date) object);
+    if (Duration.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Duration) object);
+    if (LocalDate.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((LocalDate) object);
+    if (YearMonth.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((YearMonth) object);
+    if (LocalDateTime.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((LocalDateTime) object);
+    if (OffsetDateTime.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((OffsetDateTime) object);
+    if (ZonedDateTime.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((ZonedDateTime) object);
+    if (LongAdder.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((LongAdder) object);
     // if object was a subtype of any atomic type overriding toString, use it as it's more relevant than our generic
     // representation, if that's not the case (e.g., an AtomicReference subclass not overriding String) we use our representation.
-    if (isInstanceOfNotOverridingToString(object, AtomicReference.class))
-      return toStringOf((AtomicReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicMarkableReference.class))
-      return toStringOf((AtomicMarkableReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicStampedReference.class))
-      return toStringOf((AtomicStampedReference<?>) object);
-    if (object instanceof AtomicIntegerFieldUpdater) return AtomicIntegerFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicLongFieldUpdater) return AtomicLongFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicReferenceFieldUpdater) return AtomicReferenceFieldUpdater.class.getSimpleName();
-    if (object instanceof File file) return toStringOf(file);
-    if (object instanceof Path) return fallbackToStringOf(object);
-    if (isUnquotedString(object)) return toUnquotedStringOf(object);
-    if (object instanceof String string) return toStringOf(string);
-    if (object instanceof CharSequence sequence) return toStringOf(sequence);
-    if (object instanceof Character character) return toStringOf(character);
-    if (object instanceof Comparator<?> comparator) return toStringOf(comparator);
-    if (object instanceof SimpleDateFormat format) return toStringOf(format);
-    if (object instanceof PredicateDescription description) return toStringOf(description);
-    if (object instanceof Future<?> future) return toStringOf(future);
-    if (isArray(object)) return formatArray(object);
-    if (object instanceof Collection<?> collection) return smartFormat(collection);
-    if (object instanceof Map<?, ?> map) return toStringOf(map);
-    if (object instanceof Tuple tuple) return toStringOf(tuple);
-    if (object instanceof Map.Entry<?, ?> entry) return toStringOf(entry);
-    if (object instanceof Method method) return method.toGenericString();
-    if (object instanceof InsertDelta<?> delta) return toStringOf(delta);
-    if (object instanceof ChangeDelta<?> delta) return toStringOf(delta);
-    if (object instanceof DeleteDelta<?> delta) return toStringOf(delta);
+    if (isSubtypeNotOverridingToString(type, AtomicReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicReference<?>) object);
+    if (isSubtypeNotOverridingToString(type, AtomicMarkableReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicMarkableReference<?>) object);
+    if (isSubtypeNotOverridingToString(type, AtomicStampedReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicStampedReference<?>) object);
+    if (AtomicIntegerFieldUpdater.class.isAssignableFrom(type))
+      return (representation, object) -> AtomicIntegerFieldUpdater.class.getSimpleName();
+    if (AtomicLongFieldUpdater.class.isAssignableFrom(type))
+      return (representation, object) -> AtomicLongFieldUpdater.class.getSimpleName();
+    if (AtomicReferenceFieldUpdater.class.isAssignableFrom(type))
+      return (representation, object) -> AtomicReferenceFieldUpdater.class.getSimpleName();
+    if (File.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((File) object);
+    if (Path.class.isAssignableFrom(type)) return StandardRepresentation::fallbackToStringOf;
+    if (isUnquotedString(type)) return StandardRepresentation::toUnquotedStringOf;
+    if (String.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((String) object);
+    if (CharSequence.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((CharSequence) object);
+    if (Character.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Character) object);
+    if (Comparator.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((Comparator<?>) object);
+    if (SimpleDateFormat.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((SimpleDateFormat) object);
+    if (PredicateDescription.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((PredicateDescription) object);
+    if (Future.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Future<?>) object);
+    if (type.isArray()) return StandardRepresentation::formatArray;
+    if (Collection.class.isAssignableFrom(type))
+      return (representation, object) -> representation.smartFormat((Collection<?>) object);
+    if (Map.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Map<?, ?>) object);
+    if (Tuple.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Tuple) object);
+    if (Map.Entry.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((Map.Entry<?, ?>) object);
+    if (Method.class.isAssignableFrom(type)) return (representation, object) -> ((Method) object).toGenericString();
+    if (InsertDelta.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((InsertDelta<?>) object);
+    if (ChangeDelta.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((ChangeDelta<?>) object);
+    if (DeleteDelta.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((DeleteDelta<?>) object);
     // Only format Iterables that are not collections and have not overridden toString
     // ex: JsonNode is an Iterable that is best formatted with its own String
     // Path is another example, but we can deal with it specifically as it is part of the JDK.
-    if (object instanceof Iterable<?> iterable && !hasOverriddenToString(object.getClass()))
-      return smartFormat(iterable);
-    if (object instanceof AtomicInteger atomicInteger) return toStringOf(atomicInteger);
-    if (object instanceof AtomicBoolean atomicBoolean) return toStringOf(atomicBoolean);
-    if (object instanceof AtomicLong atomicLong) return toStringOf(atomicLong);
-    if (object instanceof Number number) return toStringOf(number);
-    if (object instanceof MultipleAssertionsError multipleAssertionsError) return toStringOf(multipleAssertionsError);
-    if (object instanceof Throwable throwable) return toStringOf(throwable);
-    return fallbackToStringOf(object);
-  }
-
-  private static boolean isUnquotedString(Object object) {
-    String className = object.getClass().getName();
+    if (Iterable.class.isAssignableFrom(type) && !hasOverriddenToString(type))
+      return (representation, object) -> representation.smartFormat((Iterable<?>) object);
+    if (AtomicInteger.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((AtomicInteger) object);
+    if (AtomicBoolean.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((AtomicBoolean) object);
+    if (AtomicLong.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((AtomicLong) object);
+    if (Number.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Number) object);
+    if (MultipleAssertionsError.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((MultipleAssertionsError) object);
+    if (Throwable.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Throwable) object);
+    return StandardRepresentation::fallbackToStringOf;
+  }
+
+  private static boolean isUnquotedString(Class<?> type) {
+    String className = type.getName();
     return className.contains("org.assertj.core") && className.contains("UnquotedString");
   }
 
-  private static boolean isInstanceOfNotOverridingToString(Object object, Class<?> type) {
-    return type.isInstance(object) && !hasOverriddenToStringInSubclassOf(object.getClass(), type);
+  private static boolean isSubtypeNotOverridingToString(Class<?> objectClass, Class<?> type) {
+    return type.isAssignableFrom(objectClass) && !hasOverriddenToStringInSubclassOf(objectClass, type);
   }
 
   private static boolean hasOverriddenToString(Class<?> clazz) {
@@ -1062,10 +1132,28 @@ public class StandardRepresentation implements Representation {
   protected String format(Iterable<?> iterable, String start, String end, String elementSeparator, String indentation,
                           Object root) {
     if (iterable == null) return null;
+    // only the displayed elements of lists with fast random access are represented
+    if (iterable instanceof List<?> list && list instanceof RandomAccess)
+      return format(list, start, end, elementSeparator, indentation, root);
     Iterator<?> iterator = iterable.iterator();
     if (!iterator.hasNext()) return start + end;
-    List<String> representedElements = representElements(iterable, start, end, elementSeparator, indentation, root);
-    return representGroup(representedElements, start, end, elementSeparator, indentation);
+    // iterables that are not collections can be huge or even infinite, we only iterate up to maxElementsIteratedForPrinting
+    // of their elements, if there are more, their last elements are unknown and only the first ones are represented.
+    int maxElementsToIterate = iterable instanceof Collection ? Integer.MAX_VALUE : maxElementsIteratedForPrinting;
+    int capacity = maxElementsForPrinting / 2 + 1;
+    HeadTailAccumulator<Object> accumulator = new HeadTailAccumulator<>(capacity, capacity);
+    for (int i = 0; i < maxElementsToIterate && iterator.hasNext(); i++) {
+      accumulator.add(iterator.next());
+    }
+    boolean lastElementsUnknown = iterator.hasNext();
+    List<String> representedElements = accumulator.stream()
+                                                  .limit(lastElementsUnknown ? maxFirstElementsToPrint() : Long.MAX_VALUE)
+                                                  .map(element -> safeStringOf(element, start, end, elementSeparator,
+                                                                               indentation, root))
+                                                  .collect(toList());
+    return lastElementsUnknown
+        ? representFirstElements(representedElements, start, end, elementSeparator, indentation)
+        : representGroup(representedElements, start, end, elementSeparator, indentation);
   }
 
   /**
@@ -1094,14 +1182,19 @@ public class StandardRepresentation implements Representation {
 
   // private methods
 
-  private List<String> representElements(Iterable<?> elements, String start, String end, String elementSeparator,
-                                         String indentation, Object root) {
-    int capacity = maxElementsForPrinting / 2 + 1;
-    HeadTailAccumulator<Object> accumulator = new HeadTailAccumulator<>(capacity, capacity);
-    elements.forEach(accumulator::add);
+  // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
+  private static int maxFirstElementsToPrint() {
+    return (maxElementsForPrinting + 1) / 2;
+  }
 
-    return accumulator.stream().map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root))
-                      .collect(toList());
+  // represents the first elements of a group whose last elements are unknown
+  private static String representFirstElements(List<String> representedElements, String start, String end,
+                                               String elementSeparator, String indentation) {
+    StringBuilder desc = new StringBuilder(start);
+    for (String representedElement : representedElements) {
+      desc.append(representedElement).append(elementSeparator).append(indentation);
+    }
+    return desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED).append(end).toString();
   }
 
   // this method only deals with max number of elements to display, the elements representation is already computed
@@ -1119,8 +1212,7 @@ public class StandardRepresentation implements Representation {
       return desc.append(end).toString();
     }
     // we can't display all elements, picks the first and last maxElementsForPrinting/2 elements
-    // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
-    int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
+    int maxFirstElementsToPrint = maxFirstElementsToPrint();
     for (int i = 0; i < maxFirstElementsToPrint; i++) {
       desc.append(representedElements.get(i)).append(elementSeparator).append(indentation);
     }
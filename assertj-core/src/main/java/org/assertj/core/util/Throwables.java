@@ -27,6 +27,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.StackWalker.StackFrame;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
@@ -48,6 +49,7 @@ public final class Throwables {
   private static final String ORG_ASSERTJ = "org.assert";
   private static final String JAVA_BASE = "java.";
   private static final String JDK_BASE = "jdk.";
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
 
   private Throwables() {}
 
@@ -210,11 +212,46 @@ public final class Throwables {
   }
 
   private static boolean isFromAssertJ(StackTraceElement stackTrace) {
-    return stackTrace.getClassName().contains(ORG_ASSERTJ);
+    return isFromAssertJ(stackTrace.getClassName());
+  }
+
+  private static boolean isFromAssertJ(String className) {
+    return className.contains(ORG_ASSERTJ);
+  }
+
+  /**
+   * Replaces the stack trace of the given {@link Throwable} by the user frames of the current thread stack, that is the
+   * frames that come neither from AssertJ nor from the {@code java} and {@code jdk} packages.
+   * <p>
+   * Contrary to {@link #removeAssertJRelatedElementsFromStackTrace(Throwable)}, the stack trace is not materialized and
+   * filtered afterward, the frames are filtered while walking the current thread stack and the walk stops as soon as
+   * {@code maxUserStackFrames} user frames have been captured, capturing a few user frames is thus cheaper for deep stacks.
+   * <p>
+   * The given {@link Throwable} is expected to have been created in the current thread.
+   *
+   * @param throwable the {@code Throwable} to set the stack trace of.
+   * @param maxUserStackFrames the maximum number of user frames to capture.
+   * @since 4.0.0
+   */
+  public static void captureUserStackFramesOfCurrentThread(Throwable throwable, int maxUserStackFrames) {
+    if (throwable == null) return;
+    StackTraceElement[] userStackFrames = STACK_WALKER.walk(frames -> frames.filter(Throwables::isUserStackFrame)
+                                                                            .limit(maxUserStackFrames)
+                                                                            .map(StackFrame::toStackTraceElement)
+                                                                            .toArray(StackTraceElement[]::new));
+    throwable.setStackTrace(userStackFrames);
+  }
+
+  private static boolean isUserStackFrame(StackFrame stackFrame) {
+    String className = stackFrame.getClassName();
+    return !isFromAssertJ(className) && !isFromJavaOrJdkPackages(className);
   }
 
   private static boolean isFromJavaOrJdkPackages(StackTraceElement stackTrace) {
-    String className = stackTrace.getClassName();
+    return isFromJavaOrJdkPackages(stackTrace.getClassName());
+  }
+
+  private static boolean isFromJavaOrJdkPackages(String className) {
     return className.contains(JAVA_BASE) || className.contains(JDK_BASE);
   }
 
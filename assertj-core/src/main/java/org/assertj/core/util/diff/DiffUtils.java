@@ -41,7 +41,7 @@ public class DiffUtils {
 
   /**
    * Computes the difference between the original and revised list of elements
-   * with default diff algorithm
+   * with default diff algorithm, that is {@link MyersDiff}.
    *
    * @param <T> the type of elements.
    * @param original
@@ -57,7 +57,9 @@ public class DiffUtils {
 
   /**
    * Computes the difference between the original and revised list of elements
-   * with default diff algorithm
+   * with the given diff algorithm, for example
+   * {@link org.assertj.core.util.diff.myers.LinearSpaceMyersDiff LinearSpaceMyersDiff} to diff large sequences with
+   * a memory proportional to their sizes.
    *
    * @param <T> the type of elements.
    * @param original
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * The linear space variant of the Myers differencing algorithm described in section 4b of
+ * <a href="http://www.xmailserver.org/diff2.pdf">An O(ND) Difference Algorithm and Its Variations</a>.
+ * <p>
+ * Instead of keeping the whole diff path in memory like {@link MyersDiff}, it recursively looks for the middle snake of
+ * the shortest edit script by searching it from both ends of the sequences, only requiring memory proportional to the
+ * sequences sizes. This comes at the cost of roughly doubling the computation time, it is thus better suited to large
+ * sequences with many differences.
+ * <p>
+ * Both algorithms compute a minimal diff but may report different deltas when several minimal diffs exist, this is why
+ * {@link org.assertj.core.util.diff.DiffUtils#diff(List, List) DiffUtils.diff} keeps using {@link MyersDiff}, this
+ * algorithm has to be selected explicitly with {@link org.assertj.core.util.diff.DiffUtils#diff(List, List, DiffAlgorithm)}.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ * @since 4.0.0
+ */
+public class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  private final Equalizer<T> equalizer;
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm.
+   */
+  public LinearSpaceMyersDiff() {
+    equalizer = Object::equals;
+  }
+
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    return new Differ(original, revised).diff();
+  }
+
+  private class Differ {
+
+    private final List<T> original;
+    private final List<T> revised;
+    // furthest reaching x (in the forward and backward directions) indexed by diagonal, shared by all the recursion levels
+    private final int[] forward;
+    private final int[] backward;
+    private final Patch<T> patch = new Patch<>();
+    // end of the last reported common elements
+    private int originalIndex;
+    private int revisedIndex;
+
+    private Differ(List<T> original, List<T> revised) {
+      this.original = original;
+      this.revised = revised;
+      int size = 2 * maxEditScriptLength(original.size(), revised.size()) + 3;
+      this.forward = new int[size];
+      this.backward = new int[size];
+    }
+
+    private Patch<T> diff() {
+      compare(0, original.size(), 0, revised.size());
+      addDelta(original.size(), revised.size());
+      return patch;
+    }
+
+    private void compare(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      int prefixLength = 0;
+      while (originalStart + prefixLength < originalEnd && revisedStart + prefixLength < revisedEnd
+             && equals(originalStart + prefixLength, revisedStart + prefixLength)) {
+        prefixLength++;
+      }
+      reportCommonElements(originalStart, revisedStart, prefixLength);
+      originalStart += prefixLength;
+      revisedStart += prefixLength;
+      int suffixLength = 0;
+      while (originalStart < originalEnd - suffixLength && revisedStart < revisedEnd - suffixLength
+             && equals(originalEnd - suffixLength - 1, revisedEnd - suffixLength - 1)) {
+        suffixLength++;
+      }
+      originalEnd -= suffixLength;
+      revisedEnd -= suffixLength;
+      if (originalStart < originalEnd && revisedStart < revisedEnd) {
+        // both ranges are not empty and differ on their first and last elements, the middle snake splits them
+        int[] snake = middleSnake(originalStart, originalEnd, revisedStart, revisedEnd);
+        compare(originalStart, snake[0], revisedStart, snake[1]);
+        reportCommonElements(snake[0], snake[1], snake[2] - snake[0]);
+        compare(snake[2], originalEnd, snake[3], revisedEnd);
+      }
+      reportCommonElements(originalEnd, revisedEnd, suffixLength);
+    }
+
+    /**
+     * Returns the start and end points of the middle snake as {x, y, u, v}.
+     */
+    private int[] middleSnake(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      int n = originalEnd - originalStart;
+      int m = revisedEnd - revisedStart;
+      int delta = n - m;
+      boolean oddDelta = (delta & 1) != 0;
+      int max = maxEditScriptLength(n, m);
+      int offset = max + 1;
+      forward[offset + 1] = 0;
+      backward[offset + 1] = 0;
+      for (int d = 0; d <= max; d++) {
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])
+              ? forward[offset + k + 1]
+              : forward[offset + k - 1] + 1;
+          int snakeStart = x;
+          while (x < n && x - k < m && equals(originalStart + x, revisedStart + x - k)) x++;
+          forward[offset + k] = x;
+          int reverseK = delta - k;
+          if (oddDelta && reverseK >= -(d - 1) && reverseK <= d - 1 && x + backward[offset + reverseK] >= n) {
+            return new int[] { originalStart + snakeStart, revisedStart + snakeStart - k, originalStart + x,
+                revisedStart + x - k };
+          }
+        }
+        // same search from the ends of the ranges
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1])
+              ? backward[offset + k + 1]
+              : backward[offset + k - 1] + 1;
+          int snakeStart = x;
+          while (x < n && x - k < m && equals(originalEnd - x - 1, revisedEnd - (x - k) - 1)) x++;
+          backward[offset + k] = x;
+          int forwardK = delta - k;
+          if (!oddDelta && forwardK >= -d && forwardK <= d && x + forward[offset + forwardK] >= n) {
+            return new int[] { originalEnd - x, revisedEnd - (x - k), originalEnd - snakeStart,
+                revisedEnd - (snakeStart - k) };
+          }
+        }
+      }
+      // According to Myers, this cannot happen
+      throw new IllegalStateException("could not find a middle snake");
+    }
+
+    private void reportCommonElements(int originalStart, int revisedStart, int length) {
+      if (length == 0) return;
+      addDelta(originalStart, revisedStart);
+      originalIndex = originalStart + length;
+      revisedIndex = revisedStart + length;
+    }
+
+    private void addDelta(int originalEnd, int revisedEnd) {
+      if (originalIndex == originalEnd && revisedIndex == revisedEnd) return;
+      Chunk<T> originalChunk = new Chunk<>(originalIndex, new ArrayList<>(original.subList(originalIndex, originalEnd)));
+      Chunk<T> revisedChunk = new Chunk<>(revisedIndex, new ArrayList<>(revised.subList(revisedIndex, revisedEnd)));
+      if (originalChunk.size() == 0) patch.addDelta(new InsertDelta<>(originalChunk, revisedChunk));
+      else if (revisedChunk.size() == 0) patch.addDelta(new DeleteDelta<>(originalChunk, revisedChunk));
+      else patch.addDelta(new ChangeDelta<>(originalChunk, revisedChunk));
+    }
+
+    private boolean equals(int originalIndex, int revisedIndex) {
+      return equalizer.equals(original.get(originalIndex), revised.get(revisedIndex));
+    }
+  }
+
+  private static int maxEditScriptLength(int originalSize, int revisedSize) {
+    return (originalSize + revisedSize + 1) / 2;
+  }
+}
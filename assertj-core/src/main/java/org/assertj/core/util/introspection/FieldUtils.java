@@ -99,6 +99,27 @@ class FieldUtils {
     return match;
   }
 
+  /**
+   * Returns the named field if it can be read with {@link #readField(Object, String, boolean)}, {@code null} otherwise.
+   *
+   * @param cls the class to reflect, must not be null
+   * @param fieldName the field name to obtain
+   * @param forceAccess whether to break scope restrictions using the <code>setAccessible</code> method.
+   * @return the readable field or {@code null}
+   */
+  static Field findReadableField(Class<?> cls, String fieldName, boolean forceAccess) {
+    Field field;
+    try {
+      field = getField(cls, fieldName, forceAccess);
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+    if (field == null || isStatic(field.getModifiers()) || field.isSynthetic()) return null;
+    // field is public if access was not forced, making it accessible covers public fields of non-public classes
+    field.trySetAccessible();
+    return field;
+  }
+
   /**
    * Returns the {@link Field} corresponding to the given fieldName for the specified class.
    * <p>
@@ -58,6 +58,39 @@ public final class Introspection {
    * @throws IntrospectionError       if the getter for the matching property cannot be found or accessed.
    */
   public static Method getPropertyGetter(String propertyName, Object target) {
+    Method getter = getAccessiblePropertyGetter(propertyName, target);
+    invokeGetter(getter, propertyName, target);
+    return getter;
+  }
+
+  /**
+   * Returns the value of the property matching the given name in the given object, its getter is invoked only once.
+   *
+   * @param propertyName the given property name.
+   * @param target       the given object.
+   * @return the value of the property matching the given name in the given object.
+   * @throws IntrospectionError if the getter for the matching property cannot be found, accessed or invoked.
+   */
+  static Object getPropertyValue(String propertyName, Object target) {
+    return invokeGetter(getAccessiblePropertyGetter(propertyName, target), propertyName, target);
+  }
+
+  /**
+   * Returns the accessible getter for a property matching the given name in the given object, or {@code null} if there is
+   * none (in which case {@link #getPropertyGetter(String, Object)} would fail).
+   *
+   * @param propertyName the given property name.
+   * @param target       the given object.
+   * @return the accessible getter or {@code null}.
+   */
+  static Method findAccessiblePropertyGetter(String propertyName, Object target) {
+    Method getter = findGetter(propertyName, target);
+    if (getter == null || !isPublic(getter.getModifiers())) return null;
+    // force access for static class with public getter
+    return getter.trySetAccessible() ? getter : null;
+  }
+
+  private static Method getAccessiblePropertyGetter(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     requireNonNull(target);
     Method getter = findGetter(propertyName, target);
@@ -70,16 +103,26 @@ public final class Introspection {
     try {
       // force access for static class with public getter
       getter.setAccessible(true);
-      getter.invoke(target);
+    } catch (Exception t) {
+      throw new IntrospectionError(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, target), t);
+    }
+    return getter;
+  }
+
+  private static Object invokeGetter(Method getter, String propertyName, Object target) {
+    try {
+      return getter.invoke(target);
     } catch (InvocationTargetException ex) {
-      String message = "Unable to invoke getter %s in %s, exception: %s".formatted(getter.getName(),
-                                                                                   target.getClass().getSimpleName(),
-                                                                                   ex.getTargetException());
+      String message = getterInvocationErrorMessage(getter.getName(), target, ex.getTargetException());
       throw new IntrospectionError(message, ex, ex.getTargetException());
     } catch (Exception t) {
       throw new IntrospectionError(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, target), t);
     }
-    return getter;
+  }
+
+  static String getterInvocationErrorMessage(String getterName, Object target, Throwable getterException) {
+    return "Unable to invoke getter %s in %s, exception: %s".formatted(getterName, target.getClass().getSimpleName(),
+                                                                       getterException);
   }
 
   /**
@@ -16,19 +16,38 @@
 package org.assertj.core.util.introspection;
 
 import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.introspection.FieldUtils.findReadableField;
+import static org.assertj.core.util.introspection.Introspection.canExtractBareNamePropertyMethods;
+import static org.assertj.core.util.introspection.Introspection.findAccessiblePropertyGetter;
+import static org.assertj.core.util.introspection.Introspection.getterInvocationErrorMessage;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** Extracts values from properties, fields, arrays, lists, and maps. */
 public class PropertyOrFieldSupport {
   private static final String SEPARATOR = ".";
   private static final String ARRAY_INDEX_START = "[";
   private static final String ARRAY_INDEX_END = "]";
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
   private PropertySupport propertySupport;
   private FieldSupport fieldSupport;
+  // getters and fields resolved per type and name, this avoids looking them up for each value. Accessors are held by their
+  // type (ClassValue) so that they don't prevent unloading it, names without getter or field (like map keys) are not cached.
+  private final ClassValue<Map<AccessorKey, Accessor>> accessors = new ClassValue<>() {
+    @Override
+    protected Map<AccessorKey, Accessor> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
 
   /** Support instance for value extraction. */
   public static final PropertyOrFieldSupport EXTRACTION = new PropertyOrFieldSupport();
@@ -97,6 +116,56 @@ public class PropertyOrFieldSupport {
     // if input is an optional and name is "value", let's get the optional value directly
     if (input instanceof Optional optional && name.equals("value")) return optional.orElse(null);
 
+    if (!name.contains(SEPARATOR)) {
+      AccessorKey key = new AccessorKey(name, canExtractBareNamePropertyMethods(), fieldSupport.isAllowedToUsePrivateFields());
+      // null (and not cached) when there is no getter or field to read the value from
+      Accessor accessor = accessors.get(input.getClass()).computeIfAbsent(key, unused -> resolveAccessor(name, input));
+      if (accessor != null) {
+        try {
+          return (Object) accessor.handle().invokeExact(input);
+        } catch (Error error) {
+          throw error;
+        } catch (Throwable getterException) {
+          // field handles can't throw exceptions, only getters can
+          return valueOfFailingGetter(name, input, accessor.getterName(), getterException);
+        }
+      }
+      if (input instanceof Map<?, ?> map && map.containsKey(name)) return map.get(name);
+    }
+    return lookUpSimpleValue(name, input);
+  }
+
+  private Accessor resolveAccessor(String name, Object input) {
+    // resolved in the same order as lookUpSimpleValue
+    try {
+      Method getter = findAccessiblePropertyGetter(name, input);
+      if (getter != null) return Accessor.ofGetter(LOOKUP.unreflect(getter), getter.getName());
+      Field field = findReadableField(input.getClass(), name, fieldSupport.isAllowedToUsePrivateFields());
+      if (field != null) return Accessor.ofField(LOOKUP.unreflectGetter(field));
+    } catch (IllegalAccessException e) {
+      // lookUpSimpleValue reports why the value can't be read
+    }
+    return null;
+  }
+
+  // visible for testing
+  int cachedAccessorsCountOf(Class<?> type) {
+    return accessors.get(type).size();
+  }
+
+  private Object valueOfFailingGetter(String name, Object input, String getterName, Throwable getterException) {
+    // the getter is not invoked again, the failure is handled like lookUpSimpleValue does: the value is read from a field
+    // or a map key with the same name if any, otherwise the getter exception is reported.
+    try {
+      return fieldSupport.fieldValue(name, Object.class, input);
+    } catch (IntrospectionError fieldIntrospectionError) {
+      if (input instanceof Map<?, ?> map && map.containsKey(name)) return map.get(name);
+      throw new IntrospectionError(getterInvocationErrorMessage(getterName, input, getterException), getterException,
+                                   getterException);
+    }
+  }
+
+  private Object lookUpSimpleValue(String name, Object input) {
     try {
       // try to get name as a property
       return propertySupport.propertyValueOf(name, Object.class, input);
@@ -160,6 +229,23 @@ public class PropertyOrFieldSupport {
     }
   }
 
+  private record AccessorKey(String name, boolean bareNamePropertyMethods, boolean allowUsingPrivateFields) {
+  }
+
+  /**
+   * Either a getter (with its name) or a field handle.
+   */
+  private record Accessor(MethodHandle handle, String getterName) {
+
+    static Accessor ofGetter(MethodHandle getter, String getterName) {
+      return new Accessor(getter.asType(methodType(Object.class, Object.class)), getterName);
+    }
+
+    static Accessor ofField(MethodHandle fieldGetter) {
+      return new Accessor(fieldGetter.asType(methodType(Object.class, Object.class)), null);
+    }
+  }
+
   private String popNameFrom(String propertyOrFieldNameChain) {
     if (!isNested(propertyOrFieldNameChain)) return propertyOrFieldNameChain;
     return propertyOrFieldNameChain.substring(0, propertyOrFieldNameChain.indexOf(SEPARATOR));
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentAssertionErrorCollector_Test {
+
+  private final ConcurrentAssertionErrorCollector collector = new ConcurrentAssertionErrorCollector();
+
+  @Test
+  void should_report_errors_in_the_order_they_were_collected() {
+    // GIVEN
+    AssertionError first = new AssertionError("first");
+    AssertionError second = new AssertionError("second");
+    AssertionError third = new AssertionError("third");
+    // WHEN
+    collector.collectAssertionError(first);
+    collector.collectAssertionError(second);
+    collector.collectAssertionError(third);
+    // THEN
+    then(collector.assertionErrorsCollected()).containsExactly(first, second, third);
+    then(collector.wasSuccess()).isFalse();
+  }
+
+  @Test
+  void should_collect_errors_from_several_threads() throws InterruptedException {
+    // GIVEN
+    int threads = 8;
+    int errorsPerThread = 1_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    // WHEN
+    for (int t = 0; t < threads; t++) {
+      executor.execute(() -> {
+        awaitQuietly(start);
+        for (int i = 0; i < errorsPerThread; i++) {
+          collector.collectAssertionError(new AssertionError(Thread.currentThread().getName() + ":" + i));
+        }
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    then(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    // THEN
+    List<AssertionError> errors = collector.assertionErrorsCollected();
+    then(errors).hasSize(threads * errorsPerThread)
+                .doesNotHaveDuplicates();
+    // errors of a given thread keep the order they were collected in
+    String threadName = errors.get(0).getMessage().split(":")[0];
+    List<String> threadErrorMessages = errors.stream()
+                                             .map(AssertionError::getMessage)
+                                             .filter(message -> message.startsWith(threadName + ":"))
+                                             .toList();
+    then(threadErrorMessages).containsExactlyElementsOf(IntStream.range(0, errorsPerThread)
+                                                                 .mapToObj(i -> threadName + ":" + i)
+                                                                 .toList());
+  }
+
+  @Test
+  void should_be_successful_again_after_a_succeeded_assertion() {
+    // GIVEN
+    collector.collectAssertionError(new AssertionError("boom"));
+    // WHEN
+    collector.succeeded();
+    // THEN
+    then(collector.wasSuccess()).isTrue();
+  }
+
+  @Test
+  void should_collect_errors_of_soft_assertions_delegating_to_it() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    softly.setDelegate(collector);
+    // WHEN
+    IntStream.range(0, 100).parallel().forEach(i -> softly.assertThat(i).isNegative());
+    // THEN
+    then(softly.assertionErrorsCollected()).hasSize(100);
+    then(collector.assertionErrorsCollected()).hasSize(100);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
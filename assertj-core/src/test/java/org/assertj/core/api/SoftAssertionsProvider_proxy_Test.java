@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+class SoftAssertionsProvider_proxy_Test {
+
+  private final SoftAssertions softly = new SoftAssertions();
+
+  @Test
+  void should_create_a_new_soft_assertion_instance_for_each_call() {
+    // WHEN
+    NameAssert frodoAssert = softly.proxy(NameAssert.class, String.class, "Frodo");
+    NameAssert samAssert = softly.proxy(NameAssert.class, String.class, "Sam");
+    // THEN
+    then(frodoAssert).isNotSameAs(samAssert);
+    frodoAssert.hasLength(3);
+    samAssert.hasLength(3);
+    then(softly.assertionErrorsCollected()).singleElement()
+                                           .extracting(Throwable::getMessage)
+                                           .asString()
+                                           .contains("Frodo");
+  }
+
+  @Test
+  void should_fail_if_the_assertion_class_has_no_constructor_taking_the_actual_class() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> softly.proxy(NameAssert.class, CharSequence.class, "Frodo"));
+    // THEN
+    then(thrown).isInstanceOf(RuntimeException.class)
+                .hasMessage("Failed to create soft assertion instance for " + NameAssert.class.getName())
+                .hasCauseInstanceOf(NoSuchMethodException.class);
+  }
+
+  @Test
+  void should_fail_if_the_assertion_constructor_throws_an_exception() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> softly.proxy(NameAssert.class, String.class, ""));
+    // THEN
+    then(thrown).isInstanceOf(RuntimeException.class)
+                .hasMessage("Failed to create soft assertion instance for " + NameAssert.class.getName())
+                .hasCauseInstanceOf(InvocationTargetException.class)
+                .hasRootCauseMessage("empty name");
+  }
+
+  static class NameAssert extends AbstractAssert<NameAssert, String> {
+
+    private NameAssert(String actual) {
+      super(actual, NameAssert.class);
+      if (actual.isEmpty()) throw new IllegalArgumentException("empty name");
+    }
+
+    NameAssert hasLength(int length) {
+      return executeAssertion(() -> {
+        isNotNull();
+        if (actual.length() != length) failWithMessage("Expected %s to have length %s", actual, length);
+      });
+    }
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.DualValue.rootDualValue;
+import static org.assertj.core.api.recursive.comparison.StructuralFingerprints.structuralFingerprintsOf;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StructuralFingerprintsTest {
+
+  private RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+
+  @Test
+  void should_give_the_same_fingerprint_to_elements_with_the_same_field_values() {
+    // GIVEN
+    var actual = list(new Person("Jack", 30), new Person("Tim", 40));
+    var expected = list(new Person("Tim", 40), new Person("Jack", 30));
+    // WHEN
+    StructuralFingerprints structuralFingerprints = fingerprintsOf(actual, expected);
+    // THEN
+    then(structuralFingerprints.fingerprintOf(actual.get(0))).isEqualTo(structuralFingerprints.fingerprintOf(expected.get(1)))
+                                                             .isNotEqualTo(structuralFingerprints.fingerprintOf(expected.get(0)));
+  }
+
+  @Test
+  void should_not_take_ignored_fields_into_account() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFields("age");
+    var actual = list(new Person("Jack", 30));
+    var expected = list(new Person("Jack", 40));
+    // WHEN
+    StructuralFingerprints structuralFingerprints = fingerprintsOf(actual, expected);
+    // THEN
+    then(structuralFingerprints.fingerprintOf(actual.get(0))).isEqualTo(structuralFingerprints.fingerprintOf(expected.get(0)));
+  }
+
+  @Test
+  void should_not_take_fields_compared_with_a_custom_comparator_into_account() {
+    // GIVEN
+    recursiveComparisonConfiguration.registerComparatorForFields((s1, s2) -> 0, "name");
+    var actual = list(new Person("Jack", 30));
+    var expected = list(new Person("Tim", 30));
+    // WHEN
+    StructuralFingerprints structuralFingerprints = fingerprintsOf(actual, expected);
+    // THEN
+    then(structuralFingerprints.fingerprintOf(actual.get(0))).isEqualTo(structuralFingerprints.fingerprintOf(expected.get(0)));
+  }
+
+  @Test
+  void should_not_take_fields_of_types_compared_with_a_custom_comparator_into_account() {
+    // GIVEN
+    recursiveComparisonConfiguration.registerComparatorForType((i1, i2) -> 0, Integer.class);
+    var actual = list(new Person("Jack", 30));
+    var expected = list(new Person("Jack", 40));
+    // WHEN
+    StructuralFingerprints structuralFingerprints = fingerprintsOf(actual, expected);
+    // THEN
+    then(structuralFingerprints.fingerprintOf(actual.get(0))).isEqualTo(structuralFingerprints.fingerprintOf(expected.get(0)));
+  }
+
+  @Test
+  void should_not_compute_fingerprints_of_elements_of_different_types() {
+    // GIVEN
+    List<Object> actual = list(new Person("Jack", 30));
+    List<Object> expected = list("Jack");
+    // WHEN
+    var structuralFingerprints = structuralFingerprintsOf(rootDualValue(actual, expected), actual, expected,
+                                                          recursiveComparisonConfiguration);
+    // THEN
+    then(structuralFingerprints).isEmpty();
+  }
+
+  @Test
+  void should_not_compute_fingerprints_when_ignoring_actual_null_fields() {
+    // GIVEN
+    recursiveComparisonConfiguration.setIgnoreAllActualNullFields(true);
+    var actual = list(new Person(null, 30));
+    var expected = list(new Person("Jack", 30));
+    // WHEN
+    var structuralFingerprints = structuralFingerprintsOf(rootDualValue(actual, expected), actual, expected,
+                                                          recursiveComparisonConfiguration);
+    // THEN
+    then(structuralFingerprints).isEmpty();
+  }
+
+  @Test
+  void should_not_compute_fingerprints_when_ignoring_fields_of_types() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFieldsOfTypes(String.class);
+    var actual = list(new Person(null, 30));
+    var expected = list(new Person("Jack", 30));
+    // WHEN
+    var structuralFingerprints = structuralFingerprintsOf(rootDualValue(actual, expected), actual, expected,
+                                                          recursiveComparisonConfiguration);
+    // THEN
+    then(structuralFingerprints).isEmpty();
+  }
+
+  @Test
+  void should_not_compute_fingerprints_when_ignoring_fields_of_types_matching_regexes() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFieldsOfTypesMatchingRegexes("java\\.lang\\.String");
+    var actual = list(new Person(null, 30));
+    var expected = list(new Person("Jack", 30));
+    // WHEN
+    var structuralFingerprints = structuralFingerprintsOf(rootDualValue(actual, expected), actual, expected,
+                                                          recursiveComparisonConfiguration);
+    // THEN
+    then(structuralFingerprints).isEmpty();
+  }
+
+  private StructuralFingerprints fingerprintsOf(List<Person> actual, List<Person> expected) {
+    return structuralFingerprintsOf(rootDualValue(actual, expected), actual, expected, recursiveComparisonConfiguration).get();
+  }
+
+  static class Person {
+    String name;
+    Integer age;
+
+    Person(String name, Integer age) {
+      this.name = name;
+      this.age = age;
+    }
+  }
+}
@@ -16,6 +16,7 @@
 package org.assertj.core.api.recursive.comparison;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
 import static org.assertj.core.api.recursive.comparison.DualValue.rootDualValue;
 
 import java.util.Optional;
@@ -102,4 +103,80 @@ class VisitedDualValuesTest {
     // THEN
     then(optionalComparisonDifferences).isEmpty();
   }
+
+  @Test
+  void should_return_registered_differences_of_children_of_same_values_met_at_different_locations() {
+    // GIVEN
+    var visitedDualValues = new VisitedDualValues();
+    Object actual = new Object();
+    Object expected = new Object();
+    var dualValueA = new DualValue(new FieldLocation("a"), actual, expected, null);
+    var dualValueB = new DualValue(new FieldLocation("b"), actual, expected, null);
+    var dualValueBC = new DualValue(new FieldLocation("b.c"), "bc", "bcd", dualValueB);
+    visitedDualValues.registerVisitedDualValue(dualValueA);
+    visitedDualValues.registerVisitedDualValue(dualValueB);
+    ComparisonDifference comparisonDifferenceBC = new ComparisonDifference(dualValueBC);
+    visitedDualValues.registerComparisonDifference(dualValueBC, comparisonDifferenceBC);
+    // WHEN
+    Optional<Set<ComparisonDifference>> dualValueADifferences = visitedDualValues.getRegisteredComparisonDifferencesOf(dualValueA);
+    // THEN
+    then(dualValueADifferences).isPresent();
+    then(dualValueADifferences.get()).containsExactly(comparisonDifferenceBC);
+    then(visitedDualValues.hasRegisteredComparisonDifferences(dualValueA)).isTrue();
+  }
+
+  @Test
+  void should_report_visited_dual_values_ignoring_their_location() {
+    // GIVEN
+    var visitedDualValues = new VisitedDualValues();
+    Object actual = new Object();
+    Object expected = new Object();
+    var dualValue = new DualValue(new FieldLocation("a"), actual, expected, null);
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    // WHEN/THEN
+    then(visitedDualValues.isVisited(new DualValue(new FieldLocation("b"), actual, expected, null))).isTrue();
+    then(visitedDualValues.isVisited(new DualValue(new FieldLocation("a"), actual, new Object(), null))).isFalse();
+  }
+
+  @Test
+  void should_only_report_registered_differences_of_visited_dual_values_or_their_children() {
+    // GIVEN
+    var visitedDualValues = new VisitedDualValues();
+    var dualValueA = new DualValue(new FieldLocation("a"), "a", "a", null);
+    var dualValueB = new DualValue(new FieldLocation("a.b"), "ab", "ab", dualValueA);
+    var dualValueC = new DualValue(new FieldLocation("a.c"), "ac", "ac", dualValueA);
+    visitedDualValues.registerVisitedDualValue(dualValueA);
+    visitedDualValues.registerVisitedDualValue(dualValueB);
+    visitedDualValues.registerVisitedDualValue(dualValueC);
+    visitedDualValues.registerComparisonDifference(dualValueB, new ComparisonDifference(dualValueB));
+    // WHEN/THEN
+    then(visitedDualValues.hasRegisteredComparisonDifferences(dualValueA)).isTrue();
+    then(visitedDualValues.hasRegisteredComparisonDifferences(dualValueB)).isTrue();
+    then(visitedDualValues.hasRegisteredComparisonDifferences(dualValueC)).isFalse();
+    then(visitedDualValues.getRegisteredComparisonDifferencesOf(dualValueC)).hasValueSatisfying(differences -> then(differences).isEmpty());
+  }
+
+  @Test
+  void should_see_the_shared_visited_dual_values_but_not_modify_them_from_a_subtree() {
+    // GIVEN
+    var sharedVisitedDualValues = new VisitedDualValues();
+    var dualValueA = new DualValue(new FieldLocation("a"), "a", "a", null);
+    var dualValueB = new DualValue(new FieldLocation("a.b"), "ab", "ab", dualValueA);
+    sharedVisitedDualValues.registerVisitedDualValue(dualValueA);
+    var subtreeVisitedDualValues = sharedVisitedDualValues.forSubtree();
+    // WHEN
+    subtreeVisitedDualValues.registerVisitedDualValue(dualValueB);
+    var comparisonDifference = new ComparisonDifference(dualValueB);
+    subtreeVisitedDualValues.registerComparisonDifference(dualValueB, comparisonDifference);
+    subtreeVisitedDualValues.registerRevisitOfSharedVisitedDualValue(dualValueA);
+    // THEN
+    then(subtreeVisitedDualValues.isVisited(dualValueA)).isTrue();
+    then(subtreeVisitedDualValues.isSharedVisitedDualValue(dualValueA)).isTrue();
+    then(subtreeVisitedDualValues.isSharedVisitedDualValue(dualValueB)).isFalse();
+    then(sharedVisitedDualValues.isVisited(dualValueB)).isFalse();
+    then(sharedVisitedDualValues.hasRegisteredComparisonDifferences(dualValueA)).isFalse();
+    then(subtreeVisitedDualValues.getSubtreeEvents()).extracting(event -> event.dualValue, event -> event.comparisonDifference)
+                                                     .containsExactly(tuple(dualValueB, comparisonDifference),
+                                                                      tuple(dualValueA, null));
+  }
 }
@@ -15,6 +15,7 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.mockito.ArgumentMatchers.any;
@@ -90,6 +91,31 @@ class AssertionErrorCreator_assertionError_Test {
     then(assertionFailedError.getExpected().toString()).contains("expected");
   }
 
+  @Test
+  void should_use_actual_and_expected_values_when_representation_fails() {
+    // GIVEN
+    Representation representation = mock(Representation.class);
+    given(representation.toStringOf(any())).willThrow(IllegalStateException.class);
+    // WHEN
+    AssertionError assertionError = assertionErrorCreator.assertionError("boom", "actual", "expected", representation);
+    // THEN
+    then(assertionError).isInstanceOf(AssertionFailedError.class);
+    AssertionFailedError assertionFailedError = (AssertionFailedError) assertionError;
+    then(assertionFailedError.getActual().getValue()).isEqualTo("actual");
+    then(assertionFailedError.getExpected().getValue()).isEqualTo("expected");
+  }
+
+  @Test
+  void should_rethrow_representation_errors() {
+    // GIVEN
+    Representation representation = mock(Representation.class);
+    given(representation.toStringOf(any())).willThrow(StackOverflowError.class);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> assertionErrorCreator.assertionError("boom", "actual", "expected", representation));
+    // THEN
+    then(thrown).isInstanceOf(StackOverflowError.class);
+  }
+
   record Item(String name) {
 
     @Override
@@ -15,6 +15,7 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
 
@@ -43,4 +44,32 @@ class ConstructorInvoker_newInstance_Test {
     then(o).asInstanceOf(THROWABLE)
            .hasMessage("Hi");
   }
+
+  @Test
+  void should_create_new_Objects_with_the_given_arguments_when_the_constructor_was_already_used() throws Exception {
+    // GIVEN
+    Object first = invoker.newInstance("java.lang.Exception", new Class<?>[] { String.class }, "Hi");
+    // WHEN
+    Object second = new ConstructorInvoker().newInstance("java.lang.Exception", new Class<?>[] { String.class }, "Bye");
+    // THEN
+    then(second).isNotSameAs(first)
+                .asInstanceOf(THROWABLE)
+                .hasMessage("Bye");
+  }
+
+  @Test
+  void should_fail_if_class_does_not_exist() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> invoker.newInstance("org.opentest4j.Unknown", new Class<?>[0]));
+    // THEN
+    then(throwable).isInstanceOf(ClassNotFoundException.class);
+  }
+
+  @Test
+  void should_fail_if_constructor_does_not_exist() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> invoker.newInstance("java.lang.Exception", new Class<?>[] { Integer.class }, 1));
+    // THEN
+    then(throwable).isInstanceOf(NoSuchMethodException.class);
+  }
 }
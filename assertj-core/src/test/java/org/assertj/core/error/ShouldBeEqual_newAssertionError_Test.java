@@ -20,10 +20,14 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.assertj.core.description.Description;
 import org.assertj.core.internal.TestDescription;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.opentest4j.AssertionFailedError;
@@ -54,4 +58,27 @@ class ShouldBeEqual_newAssertionError_Test {
   public static Stream<String> parameters() {
     return Stream.of("[Jedi]", "[Jedi]  ");
   }
+
+  @Test
+  void should_represent_actual_and_expected_only_once() {
+    // GIVEN
+    Description description = new TestDescription("Jedi");
+    var representation = new CountingRepresentation();
+    var shouldBeEqual = shouldBeEqual("Luke", "Yoda", representation);
+    // WHEN
+    var assertionError = shouldBeEqual.toAssertionError(description, representation);
+    // THEN
+    then(assertionError).isInstanceOf(AssertionFailedError.class);
+    then(representation.representedValues).containsExactlyInAnyOrder("Luke", "Yoda");
+  }
+
+  private static class CountingRepresentation extends StandardRepresentation {
+    private final List<Object> representedValues = new ArrayList<>();
+
+    @Override
+    public String toStringOf(Object object) {
+      representedValues.add(object);
+      return super.toStringOf(object);
+    }
+  }
 }
@@ -45,4 +45,16 @@ class ShouldHaveBinaryContent_create_Test {
                                  actual);
   }
 
+  @Test
+  void should_create_error_message_with_an_offset_past_2_GB() {
+    // GIVEN
+    InputStream actual = new ByteArrayInputStream(new byte[] { 1, 3 });
+    BinaryDiffResult diff = new BinaryDiffResult(3_000_000_000L, 11, 3);
+    // WHEN
+    String errorMessage = shouldHaveBinaryContent(actual, diff).create(new TestDescription("TEST"));
+    // THEN
+    then(errorMessage).contains("at offset 3000000000,");
+    then(diff.offset).isEqualTo(Integer.MAX_VALUE);
+  }
+
 }
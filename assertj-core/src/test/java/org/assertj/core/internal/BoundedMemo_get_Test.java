@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenIllegalArgumentException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedMemo_get_Test {
+
+  @Test
+  void should_compute_the_value_of_a_key_once() {
+    // GIVEN
+    BoundedMemo<String, Integer> memo = new BoundedMemo<>(10);
+    AtomicInteger computations = new AtomicInteger();
+    // WHEN
+    memo.get("key", key -> computations.incrementAndGet());
+    Integer value = memo.get("key", key -> computations.incrementAndGet());
+    // THEN
+    then(value).isEqualTo(1);
+    then(computations).hasValue(1);
+  }
+
+  @Test
+  void should_not_hold_more_values_than_its_max_size() {
+    // GIVEN
+    BoundedMemo<Integer, Integer> memo = new BoundedMemo<>(100);
+    // WHEN
+    for (int i = 0; i < 1_000; i++) {
+      memo.get(i, key -> key * 2);
+    }
+    // THEN
+    then(memo.size()).isLessThanOrEqualTo(100);
+    then(memo.get(999, key -> key * 2)).isEqualTo(1998);
+  }
+
+  @Test
+  void should_compute_again_the_values_of_a_cleared_memo() {
+    // GIVEN
+    BoundedMemo<String, Integer> memo = new BoundedMemo<>(10);
+    memo.get("key", key -> 1);
+    // WHEN
+    memo.clear();
+    // THEN
+    then(memo.get("key", key -> 2)).isEqualTo(2);
+  }
+
+  @Test
+  void should_fail_if_max_size_is_not_strictly_positive() {
+    thenIllegalArgumentException().isThrownBy(() -> new BoundedMemo<>(0))
+                                  .withMessage("maxSize must be > 0, but was 0");
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Comparator.comparing;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.comparisonstrategy.TotalOrderComparator.totalOrder;
+
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ComparatorBasedComparisonStrategy_hasTotalOrderComparator_Test {
+
+  @ParameterizedTest
+  @MethodSource
+  void should_return_true_for_comparators_known_to_define_a_total_order(Comparator<?> comparator) {
+    // GIVEN
+    var comparisonStrategy = new ComparatorBasedComparisonStrategy(comparator);
+    // WHEN
+    boolean hasTotalOrderComparator = comparisonStrategy.hasTotalOrderComparator();
+    // THEN
+    then(hasTotalOrderComparator).isTrue();
+  }
+
+  static Stream<Comparator<?>> should_return_true_for_comparators_known_to_define_a_total_order() {
+    return Stream.of(totalOrder(comparing(String::length)),
+                     Comparator.naturalOrder(),
+                     Comparator.reverseOrder(),
+                     String.CASE_INSENSITIVE_ORDER);
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void should_return_false_for_other_comparators(Comparator<?> comparator) {
+    // GIVEN
+    var comparisonStrategy = new ComparatorBasedComparisonStrategy(comparator);
+    // WHEN
+    boolean hasTotalOrderComparator = comparisonStrategy.hasTotalOrderComparator();
+    // THEN
+    then(hasTotalOrderComparator).isFalse();
+  }
+
+  static Stream<Comparator<?>> should_return_false_for_other_comparators() {
+    return Stream.of(comparing(String::length),
+                     (Object o1, Object o2) -> o1.equals(o2) ? 0 : 1);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DefaultDateParser_parse_Test {
+
+  private final TimeZone defaultTimeZone = TimeZone.getDefault();
+
+  @AfterEach
+  void tearDown() {
+    TimeZone.setDefault(defaultTimeZone);
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void should_parse_dates_with_default_date_formats(String dateAsString, Date expected) {
+    // WHEN
+    Date date = DefaultDateParser.parse(dateAsString);
+    // THEN
+    then(date).isEqualTo(expected);
+  }
+
+  static Stream<Arguments> should_parse_dates_with_default_date_formats() {
+    return Stream.of(Arguments.of("2003-04-26T03:01:02.000000001Z",
+                                  Date.from(OffsetDateTime.parse("2003-04-26T03:01:02.000000001Z").toInstant())),
+                     Arguments.of("2003-04-26T03:01:02.758+02:00",
+                                  Date.from(OffsetDateTime.parse("2003-04-26T03:01:02.758+02:00").toInstant())),
+                     Arguments.of("2003-04-26T03:01:02.999",
+                                  Date.from(LocalDateTime.parse("2003-04-26T03:01:02.999").atZone(systemDefault()).toInstant())),
+                     Arguments.of("2003-04-26T03:01:02",
+                                  Date.from(LocalDateTime.parse("2003-04-26T03:01:02").atZone(systemDefault()).toInstant())),
+                     Arguments.of("2003-04-26",
+                                  Date.from(LocalDate.parse("2003-04-26").atStartOfDay(systemDefault()).toInstant())),
+                     Arguments.of("+10000-04-26",
+                                  Date.from(LocalDate.parse("+10000-04-26").atStartOfDay(systemDefault()).toInstant())),
+                     Arguments.of("2003-04-26 03:01:02.999", new Date(Timestamp.valueOf("2003-04-26 03:01:02.999").getTime())),
+                     Arguments.of("2003-04-26 03:01:02", new Date(Timestamp.valueOf("2003-04-26 03:01:02").getTime())));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "2003/04/26", "2003-02-30", "2003-04-26T03:01:02.999 ", "2003-04-26 03", "26-04-2003", "", "2003-04-26TZ" })
+  void should_return_null_if_no_default_date_format_matches(String dateAsString) {
+    // WHEN
+    Date date = DefaultDateParser.parse(dateAsString);
+    // THEN
+    then(date).isNull();
+  }
+
+  @Test
+  void should_return_a_new_date_when_parsing_the_same_string() {
+    // GIVEN
+    Date date = DefaultDateParser.parse("2003-04-26");
+    // WHEN
+    date.setTime(0);
+    // THEN
+    then(DefaultDateParser.parse("2003-04-26")).isNotSameAs(date)
+                                               .isNotEqualTo(date);
+  }
+
+  @Test
+  void should_cache_a_bounded_number_of_dates() {
+    // GIVEN
+    LocalDate start = LocalDate.parse("2003-04-26");
+    // WHEN
+    for (int i = 0; i < 1000; i++) {
+      DefaultDateParser.parse(start.plusDays(i).toString());
+    }
+    // THEN
+    then(DefaultDateParser.size()).isLessThanOrEqualTo(100);
+  }
+
+  @Test
+  void should_take_the_current_default_time_zone_into_account() {
+    // GIVEN
+    TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    Date utcDate = DefaultDateParser.parse("2003-04-26T03:01:02");
+    TimeZone.setDefault(TimeZone.getTimeZone("GMT+2"));
+    // WHEN
+    Date gmtPlus2Date = DefaultDateParser.parse("2003-04-26T03:01:02");
+    // THEN
+    then(utcDate.getTime() - gmtPlus2Date.getTime()).isEqualTo(2 * 60 * 60 * 1000);
+  }
+
+}
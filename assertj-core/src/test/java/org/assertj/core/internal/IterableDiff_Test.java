@@ -147,9 +147,60 @@ class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  void should_not_report_any_differences_between_two_iterables_with_equal_arrays_and_nulls_in_a_different_order() {
+    // GIVEN
+    List<Object> actual = newArrayList(new int[] { 1, 2 }, null, new String[] { "a" }, new int[] { 1, 2 });
+    List<Object> expected = newArrayList(new String[] { "a" }, new int[] { 1, 2 }, new int[] { 1, 2 }, null);
+    // WHEN
+    IterableDiff<Object> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_report_differences_in_iterables_order_when_counting_elements() {
+    // GIVEN
+    actual = newArrayList("A", "#", "B", "#", "C", "#");
+    expected = newArrayList("Z", "#", "Y", "$");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    then(diff.unexpected).containsExactly("A", "B", "#", "C", "#");
+    then(diff.missing).containsExactly("Z", "Y", "$");
+  }
+
+  @Test
+  void should_compare_elements_with_equals_when_their_hash_code_is_not_consistent_with_equals() {
+    // GIVEN
+    List<EqualWithoutHashCode> actual = newArrayList(new EqualWithoutHashCode("A"), new EqualWithoutHashCode("B"),
+                                                     new EqualWithoutHashCode("C"));
+    List<EqualWithoutHashCode> expected = newArrayList(new EqualWithoutHashCode("D"), new EqualWithoutHashCode("C"),
+                                                       new EqualWithoutHashCode("A"));
+    // WHEN
+    IterableDiff<EqualWithoutHashCode> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    then(diff.unexpected).containsExactly(new EqualWithoutHashCode("B"));
+    then(diff.missing).containsExactly(new EqualWithoutHashCode("D"));
+  }
+
   private class Foo {
   }
 
+  private record EqualWithoutHashCode(String name) {
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof EqualWithoutHashCode equalWithoutHashCode && name.equals(equalWithoutHashCode.name);
+    }
+
+    @Override
+    public int hashCode() {
+      // identity hash code as classes overriding equals but not hashCode
+      return System.identityHashCode(this);
+    }
+  }
+
   private static void assertThatNoDiff(IterableDiff diff) {
     assertThat(diff.differencesFound()).isFalse();
     assertThat(diff.missing).isEmpty();
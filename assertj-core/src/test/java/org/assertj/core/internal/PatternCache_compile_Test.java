@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenIllegalArgumentException;
+import static org.assertj.core.configuration.Configuration.MAX_CACHED_PATTERNS;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PatternCache_compile_Test {
+
+  @AfterEach
+  void tearDown() {
+    PatternCache.setMaxSize(MAX_CACHED_PATTERNS);
+  }
+
+  @Test
+  void should_return_the_same_pattern_for_the_same_regex() {
+    // WHEN
+    Pattern pattern = PatternCache.compile("a+b");
+    // THEN
+    then(PatternCache.compile("a+b")).isSameAs(pattern);
+    then(pattern.matcher("aab").matches()).isTrue();
+  }
+
+  @Test
+  void should_take_flags_into_account() {
+    // WHEN
+    Pattern pattern = PatternCache.compile("a.b", Pattern.DOTALL);
+    // THEN
+    then(PatternCache.compile("a.b")).isNotSameAs(pattern);
+    then(pattern.flags()).isEqualTo(Pattern.DOTALL);
+  }
+
+  @Test
+  void should_evict_the_least_recently_used_pattern_when_full() {
+    // GIVEN
+    PatternCache.setMaxSize(2);
+    Pattern first = PatternCache.compile("first");
+    Pattern second = PatternCache.compile("second");
+    PatternCache.compile("first");
+    // WHEN
+    PatternCache.compile("third");
+    // THEN
+    then(PatternCache.size()).isEqualTo(2);
+    then(PatternCache.compile("first")).isSameAs(first);
+    then(PatternCache.compile("second")).isNotSameAs(second);
+  }
+
+  @Test
+  void should_not_cache_patterns_when_max_size_is_zero() {
+    // GIVEN
+    PatternCache.setMaxSize(0);
+    // WHEN
+    Pattern pattern = PatternCache.compile("a+b");
+    // THEN
+    then(PatternCache.compile("a+b")).isNotSameAs(pattern);
+    then(PatternCache.size()).isZero();
+  }
+
+  @Test
+  void should_fail_if_max_size_is_negative() {
+    thenIllegalArgumentException().isThrownBy(() -> PatternCache.setMaxSize(-1))
+                                   .withMessage("maxCachedPatterns must be >= 0, but was -1");
+  }
+
+}
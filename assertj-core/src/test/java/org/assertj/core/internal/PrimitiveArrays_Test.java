@@ -0,0 +1,104 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveArrays_Test {
+
+  @Test
+  void should_compare_elements_as_their_wrapper_type_equals() {
+    // GIVEN
+    double[] actual = { Double.NaN, 0.0, 1.5 };
+    // WHEN/THEN
+    then(PrimitiveArrays.containsAll(actual, new double[] { Double.NaN, 1.5 })).isTrue();
+    then(PrimitiveArrays.containsAll(actual, new double[] { -0.0 })).isFalse();
+    then(PrimitiveArrays.containsAll(new float[] { 0.0f }, new float[] { -0.0f })).isFalse();
+    then(PrimitiveArrays.containsAll(new char[] { 'a', 'b' }, new char[] { 'b' })).isTrue();
+    then(PrimitiveArrays.containsAll(new boolean[] { true }, new boolean[] { false })).isFalse();
+  }
+
+  @Test
+  void should_look_up_many_values_in_sorted_elements() {
+    // GIVEN
+    int[] actual = new int[100];
+    int[] values = new int[50];
+    for (int i = 0; i < actual.length; i++) {
+      actual[i] = actual.length - i;
+    }
+    for (int i = 0; i < values.length; i++) {
+      values[i] = 2 * i + 1;
+    }
+    // WHEN/THEN
+    then(PrimitiveArrays.containsAll(actual, values)).isTrue();
+    values[10] = 101;
+    then(PrimitiveArrays.containsAll(actual, values)).isFalse();
+  }
+
+  @Test
+  void should_leave_null_arrays_or_empty_values_to_the_generic_code_paths() {
+    then(PrimitiveArrays.containsAll(null, new int[] { 1 })).isFalse();
+    then(PrimitiveArrays.containsAll(new int[] { 1 }, null)).isFalse();
+    then(PrimitiveArrays.containsAll(new int[] { 1 }, new int[0])).isFalse();
+    then(PrimitiveArrays.containsExactly(new int[0], new int[0])).isFalse();
+    then(PrimitiveArrays.containsAll(new Integer[] { 1 }, new Integer[] { 1 })).isFalse();
+    then(PrimitiveArrays.doesNotHaveDuplicates(null)).isFalse();
+  }
+
+  @Test
+  void should_check_actual_contains_only_the_values_whatever_their_duplicates() {
+    then(PrimitiveArrays.containsOnly(new long[] { 3, 1, 3, 2 }, new long[] { 1, 2, 2, 3 })).isTrue();
+    then(PrimitiveArrays.containsOnly(new long[] { 3, 1, 3 }, new long[] { 1, 2, 3 })).isFalse();
+    then(PrimitiveArrays.containsOnly(new long[] { 3, 1, 2 }, new long[] { 1, 3 })).isFalse();
+  }
+
+  @Test
+  void should_check_actual_contains_exactly_the_values() {
+    then(PrimitiveArrays.containsExactly(new short[] { 1, 2 }, new short[] { 1, 2 })).isTrue();
+    then(PrimitiveArrays.containsExactly(new short[] { 1, 2 }, new short[] { 2, 1 })).isFalse();
+    then(PrimitiveArrays.containsExactly(new short[] { 1, 2 }, new short[] { 1 })).isFalse();
+  }
+
+  @Test
+  void should_check_actual_contains_the_sequence() {
+    // GIVEN
+    byte[] actual = { 1, 2, 1, 2, 3 };
+    // WHEN/THEN
+    then(PrimitiveArrays.containsSequence(actual, new byte[] { 1, 2, 3 })).isTrue();
+    then(PrimitiveArrays.containsSequence(actual, new byte[] { 2, 1, 2, 3 })).isTrue();
+    then(PrimitiveArrays.containsSequence(actual, new byte[] { 1, 3 })).isFalse();
+    then(PrimitiveArrays.containsSequence(actual, new byte[] { 1, 2, 1, 2, 3, 4 })).isFalse();
+  }
+
+  @Test
+  void should_check_actual_does_not_have_duplicates() {
+    then(PrimitiveArrays.doesNotHaveDuplicates(new double[] { 0.0, -0.0, Double.NaN })).isTrue();
+    then(PrimitiveArrays.doesNotHaveDuplicates(new double[] { Double.NaN, 1.0, Double.NaN })).isFalse();
+    then(PrimitiveArrays.doesNotHaveDuplicates(new int[0])).isTrue();
+  }
+
+  @Test
+  void should_check_actual_is_sorted_as_its_wrapper_type_compareTo() {
+    then(PrimitiveArrays.isSorted(new double[] { -1.0, -0.0, 0.0, Double.NaN })).isTrue();
+    then(PrimitiveArrays.isSorted(new double[] { 0.0, -0.0 })).isFalse();
+    then(PrimitiveArrays.isSorted(new float[] { Float.NaN, 1.0f })).isFalse();
+    then(PrimitiveArrays.isSorted(new char[] { 'a', 'a', '\uffff' })).isTrue();
+    then(PrimitiveArrays.isSorted(new boolean[] { false, true })).isTrue();
+    then(PrimitiveArrays.isSorted(new int[] { Integer.MIN_VALUE, 0, -1 })).isFalse();
+  }
+}
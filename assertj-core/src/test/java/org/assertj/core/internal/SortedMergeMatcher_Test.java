@@ -0,0 +1,131 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.comparisonstrategy.SortedMergeMatcher.sortedMergeMatcher;
+import static org.assertj.core.api.comparisonstrategy.TotalOrderComparator.totalOrder;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.SortedMergeMatcher;
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.testkit.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+class SortedMergeMatcher_Test {
+
+  private final ComparisonStrategy caseInsensitiveOrder = new ComparatorBasedComparisonStrategy(String.CASE_INSENSITIVE_ORDER);
+
+  @Test
+  void should_match_values_equal_to_actual_elements() {
+    // GIVEN
+    List<String> actual = list("Frodo", "Sam", "Merry");
+    List<String> values = list("SAM", "Pippin", "frodo", "Gandalf");
+    // WHEN
+    SortedMergeMatcher matcher = sortedMergeMatcher(caseInsensitiveOrder, actual, values).get();
+    // THEN
+    then(matcher.anyMatch()).isTrue();
+    then(matcher.matchedValues()).containsExactly("SAM", "frodo");
+    then(matcher.unmatchedValues()).containsExactly("Pippin", "Gandalf");
+    then(matcher.unmatchedActual()).containsExactly("Merry");
+  }
+
+  @Test
+  void should_pair_equal_elements_one_to_one_in_their_original_order() {
+    // GIVEN
+    List<String> actual = list("a", "B", "A", "c", "b", "a");
+    List<String> values = list("b", "A", "d", "A", "b", "b");
+    // WHEN
+    SortedMergeMatcher matcher = sortedMergeMatcher(caseInsensitiveOrder, actual, values).get();
+    // THEN
+    then(matcher.unpairedActual()).containsExactly("c", "a");
+    then(matcher.unpairedValues()).containsExactly("d", "b");
+    then(matcher.unmatchedActual()).containsExactly("c");
+    then(matcher.unmatchedValues()).containsExactly("d");
+  }
+
+  @Test
+  void should_not_be_created_when_actual_or_values_contain_null_elements() {
+    // WHEN
+    Optional<SortedMergeMatcher> actualWithNull = sortedMergeMatcher(caseInsensitiveOrder, list(null, "a"), list("A"));
+    Optional<SortedMergeMatcher> valuesWithNull = sortedMergeMatcher(caseInsensitiveOrder, list("a"), list("A", null));
+    // THEN
+    then(actualWithNull).isEmpty();
+    then(valuesWithNull).isEmpty();
+  }
+
+  @Test
+  void should_not_be_created_when_actual_or_values_contain_elements_of_different_types() {
+    // GIVEN
+    var strategy = new ComparatorBasedComparisonStrategy(naturalOrder());
+    // WHEN
+    Optional<SortedMergeMatcher> mixedActual = sortedMergeMatcher(strategy, list(1, "a"), list(1));
+    Optional<SortedMergeMatcher> mixedSides = sortedMergeMatcher(strategy, list(1, 2), list("a"));
+    // THEN
+    then(mixedActual).isEmpty();
+    then(mixedSides).isEmpty();
+  }
+
+  @Test
+  void should_leave_null_elements_to_the_total_order_comparator() {
+    // GIVEN
+    Comparator<String> nullAsEmptyOrder = comparing(string -> string == null ? "" : string);
+    String[] actual = { "Luke", null, "Yoda" };
+    // WHEN/THEN
+    assertThat(actual).usingElementComparator(totalOrder(nullAsEmptyOrder)).contains("", "Yoda");
+  }
+
+  @Test
+  void should_not_match_anything_when_no_values_are_equal_to_actual_elements() {
+    // GIVEN
+    var strategy = new ComparatorBasedComparisonStrategy(totalOrder(comparing(String::length)));
+    List<String> actual = list("a", "bb");
+    List<String> values = list("ccc");
+    // WHEN
+    SortedMergeMatcher matcher = sortedMergeMatcher(strategy, actual, values).get();
+    // THEN
+    then(matcher.anyMatch()).isFalse();
+    then(matcher.unmatchedActual()).containsExactly("a", "bb");
+    then(matcher.unmatchedValues()).containsExactly("ccc");
+  }
+
+  @Test
+  void should_not_be_created_for_comparators_not_known_to_define_a_total_order() {
+    // GIVEN
+    var strategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.INSTANCE);
+    // WHEN
+    Optional<SortedMergeMatcher> matcher = sortedMergeMatcher(strategy, list("a"), list("A"));
+    // THEN
+    then(matcher).isEmpty();
+  }
+
+  @Test
+  void should_not_be_created_for_the_standard_comparison_strategy() {
+    // WHEN
+    Optional<SortedMergeMatcher> matcher = sortedMergeMatcher(StandardComparisonStrategy.instance(), list("a"), list("a"));
+    // THEN
+    then(matcher).isEmpty();
+  }
+}
@@ -64,6 +64,43 @@ class TypeComparators_hasComparator_Test {
     assertThat(comparatorFound).isFalse();
   }
 
+  @Test
+  void should_find_comparator_registered_after_a_lookup_without_comparator() {
+    // GIVEN
+    typeComparators.hasComparatorForType(Foo.class);
+    typeComparators.registerComparator(Bar.class, newComparator());
+    // WHEN
+    boolean comparatorFound = typeComparators.hasComparatorForType(Foo.class);
+    // THEN
+    assertThat(comparatorFound).isTrue();
+  }
+
+  @Test
+  void should_find_closer_comparator_registered_after_a_lookup() {
+    // GIVEN
+    Comparator<Bar> barComparator = newComparator();
+    Comparator<Foo> fooComparator = newComparator();
+    typeComparators.registerComparator(Bar.class, barComparator);
+    typeComparators.getComparatorForType(Foo.class);
+    typeComparators.registerComparator(Foo.class, fooComparator);
+    // WHEN
+    Comparator<?> comparator = typeComparators.getComparatorForType(Foo.class);
+    // THEN
+    assertThat(comparator).isSameAs(fooComparator);
+  }
+
+  @Test
+  void should_not_find_comparator_after_clear() {
+    // GIVEN
+    typeComparators.registerComparator(Foo.class, newComparator());
+    typeComparators.hasComparatorForType(Foo.class);
+    typeComparators.clear();
+    // WHEN
+    boolean comparatorFound = typeComparators.hasComparatorForType(Foo.class);
+    // THEN
+    assertThat(comparatorFound).isFalse();
+  }
+
   private static <T> Comparator<T> newComparator() {
     return (T o1, T o2) -> 0;
   }
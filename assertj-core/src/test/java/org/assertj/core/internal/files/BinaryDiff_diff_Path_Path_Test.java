@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal.files;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(Path, Path)}</code>.
+ */
+class BinaryDiff_diff_Path_Path_Test {
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void should_return_no_diff_if_paths_have_equal_content() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual"), new byte[] { 1, 2, 3 });
+    Path expected = Files.write(tempDir.resolve("expected"), new byte[] { 1, 2, 3 });
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_paths_differ_on_one_byte() throws IOException {
+    // GIVEN
+    byte[] actualContent = new byte[20_000];
+    byte[] expectedContent = new byte[20_000];
+    expectedContent[17_000] = (byte) 0xCA;
+    Path actual = Files.write(tempDir.resolve("actual"), actualContent);
+    Path expected = Files.write(tempDir.resolve("expected"), expectedContent);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(17_000);
+    then(result.actual).isEqualTo("0x0");
+    then(result.expected).isEqualTo("0xCA");
+  }
+
+  @Test
+  void should_return_diff_if_actual_is_shorter() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual"), new byte[] { 1, 2 });
+    Path expected = Files.write(tempDir.resolve("expected"), new byte[] { 1, 2, 3 });
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(2);
+    then(result.actual).isEqualTo("EOF");
+    then(result.expected).isEqualTo("0x3");
+  }
+
+  @Test
+  void should_return_diff_if_expected_is_shorter() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual"), new byte[] { 1, 2, 3 });
+    Path expected = Files.write(tempDir.resolve("expected"), new byte[] { 1, 2 });
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(2);
+    then(result.actual).isEqualTo("0x3");
+    then(result.expected).isEqualTo("EOF");
+  }
+}
@@ -18,6 +18,7 @@ package org.assertj.core.internal.files;
 import static java.lang.String.format;
 import static java.nio.charset.Charset.defaultCharset;
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
 import static org.assertj.core.util.Arrays.array;
 
 import java.io.File;
@@ -25,6 +26,7 @@ import java.io.IOException;
 import java.util.List;
 
 import org.assertj.core.internal.Diff;
+import org.assertj.core.internal.Diff.TruncatedDeltas;
 import org.assertj.core.util.Files;
 import org.assertj.core.util.TextFileWriter;
 import org.assertj.core.util.diff.Delta;
@@ -157,4 +159,81 @@ class Diff_diff_File_Test {
     then(diffs).singleElement().hasToString(format("Extra content at line 2:%n"
                                                    + "  [\"line_1\"]%n"));
   }
+
+  @Test
+  void should_only_report_the_first_differences_of_large_files() throws IOException {
+    // GIVEN
+    String[] actualContent = new String[5_000];
+    String[] expectedContent = new String[5_000];
+    for (int i = 0; i < actualContent.length; i++) {
+      actualContent[i] = "line" + i;
+      expectedContent[i] = i >= 2_000 && i % 2 == 0 ? "other line" + i : "line" + i;
+    }
+    writer.write(actual, actualContent);
+    writer.write(expected, expectedContent);
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    then(diffs).hasSize(100)
+               .isInstanceOf(TruncatedDeltas.class);
+    then(diffs.get(0).lineNumber()).isEqualTo(2_001);
+    then(diffs.get(99).lineNumber()).isEqualTo(2_199);
+    then(shouldHaveSameContent(actual, expected, diffs).create()).endsWith(format("%n[...] further differences not reported, "
+                                                                                  + "only the 1000 lines following the first "
+                                                                                  + "difference are compared and at most 100 "
+                                                                                  + "differences are reported"));
+  }
+
+  @Test
+  void should_tell_that_lines_after_the_compared_window_are_not_compared() throws IOException {
+    // GIVEN
+    String[] actualContent = new String[5_000];
+    String[] expectedContent = new String[5_000];
+    for (int i = 0; i < actualContent.length; i++) {
+      actualContent[i] = "line" + i;
+      expectedContent[i] = i == 10 ? "other line" : "line" + i;
+    }
+    writer.write(actual, actualContent);
+    writer.write(expected, expectedContent);
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    then(diffs).singleElement()
+               .extracting(Delta::lineNumber)
+               .isEqualTo(11);
+    then(diffs).isInstanceOf(TruncatedDeltas.class);
+    then(shouldHaveSameContent(actual, expected, diffs).create()).contains("further differences not reported");
+  }
+
+  @Test
+  void should_not_tell_that_differences_are_not_reported_when_all_lines_are_compared() throws IOException {
+    // GIVEN
+    writer.write(actual, "line_0", "line_1");
+    writer.write(expected, "line_0", "line1");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    then(diffs).isNotInstanceOf(TruncatedDeltas.class);
+    then(shouldHaveSameContent(actual, expected, diffs).create()).doesNotContain("further differences not reported");
+  }
+
+  @Test
+  void should_not_report_differences_at_the_end_of_the_compared_window() throws IOException {
+    // GIVEN
+    String[] actualContent = new String[5_001];
+    String[] expectedContent = new String[5_000];
+    actualContent[0] = "extra line";
+    for (int i = 0; i < expectedContent.length; i++) {
+      actualContent[i + 1] = "line" + i;
+      expectedContent[i] = "line" + i;
+    }
+    writer.write(actual, actualContent);
+    writer.write(expected, expectedContent);
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    then(diffs).singleElement().hasToString(format("Extra content at line 1:%n"
+                                                   + "  [\"extra line\"]%n"));
+    then(diffs).isInstanceOf(TruncatedDeltas.class);
+  }
 }
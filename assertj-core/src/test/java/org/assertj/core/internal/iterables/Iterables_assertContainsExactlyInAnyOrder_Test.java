@@ -60,6 +60,15 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
     iterables.assertContainsExactlyInAnyOrder(someInfo(), actual, array());
   }
 
+  @Test
+  void should_pass_if_actual_contains_exactly_given_values_equal_but_with_different_hash_codes() {
+    // GIVEN
+    Iterable<EqualWithoutHashCode> actual = newArrayList(new EqualWithoutHashCode("Luke"), new EqualWithoutHashCode("Yoda"));
+    // WHEN/THEN
+    iterables.assertContainsExactlyInAnyOrder(someInfo(), actual,
+                                              array(new EqualWithoutHashCode("Yoda"), new EqualWithoutHashCode("Luke")));
+  }
+
   @Test
   void should_fail_if_array_of_values_to_look_for_is_empty_and_actual_is_not() {
     assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> iterables.assertContainsExactlyInAnyOrder(someInfo(), actual,
@@ -174,4 +183,18 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
                                                                   comparisonStrategy));
   }
 
+  private record EqualWithoutHashCode(String name) {
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof EqualWithoutHashCode equalWithoutHashCode && name.equals(equalWithoutHashCode.name);
+    }
+
+    @Override
+    public int hashCode() {
+      // identity hash code as classes overriding equals but not hashCode
+      return System.identityHashCode(this);
+    }
+  }
+
 }
@@ -17,6 +17,7 @@ package org.assertj.core.internal.iterables;
 
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
+import static java.util.Comparator.naturalOrder;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -32,9 +33,11 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Sets.set;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.junit.jupiter.api.Test;
@@ -80,6 +83,15 @@ class Iterables_assertContains_Test extends IterablesBaseTest {
     then(assertionError).isNotNull();
   }
 
+  @Test
+  void should_pass_with_a_total_order_comparator_when_actual_contains_elements_of_different_types() {
+    // GIVEN
+    Iterables underTest = new Iterables(new ComparatorBasedComparisonStrategy(naturalOrder()));
+    List<Object> actual = list(1, "a");
+    // WHEN/THEN
+    assertThatNoException().isThrownBy(() -> underTest.assertContains(info, actual, array(1)));
+  }
+
   @ParameterizedTest
   @MethodSource("successfulTestCases")
   void should_pass(Iterable<String> actual, Object[] expected) {
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Throwables#captureUserStackFramesOfCurrentThread(Throwable, int)}.
+ */
+class Throwables_captureUserStackFramesOfCurrentThread_Test {
+
+  @Test
+  void should_only_capture_frames_neither_from_assertj_nor_from_java_or_jdk_packages() {
+    // GIVEN
+    RuntimeException exception = new RuntimeException("boom");
+    // WHEN
+    Throwables.captureUserStackFramesOfCurrentThread(exception, Integer.MAX_VALUE);
+    // THEN
+    then(exception.getStackTrace()).isNotEmpty()
+                                   .extracting(StackTraceElement::getClassName)
+                                   .noneMatch(className -> className.contains("org.assertj"))
+                                   .noneMatch(className -> className.startsWith("java."))
+                                   .noneMatch(className -> className.startsWith("jdk."));
+  }
+
+  @Test
+  void should_capture_at_most_the_given_number_of_user_frames() {
+    // GIVEN
+    RuntimeException exception = new RuntimeException("boom");
+    // WHEN
+    Throwables.captureUserStackFramesOfCurrentThread(exception, 1);
+    // THEN
+    then(exception.getStackTrace()).hasSize(1);
+  }
+
+  @Test
+  void should_not_fail_if_throwable_is_null() {
+    Throwables.captureUserStackFramesOfCurrentThread(null, 1);
+  }
+}
@@ -19,9 +19,12 @@ import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
+import org.assertj.core.util.diff.myers.MyersDiff;
 import org.junit.jupiter.api.Test;
 
 class DiffTest {
@@ -81,4 +84,27 @@ class DiffTest {
     assertThat(deltas.size()).isEqualTo(1);
     assertThat(deltas.get(0)).isInstanceOf(InsertDelta.class);
   }
+
+  @Test
+  void testDiff_LargeListsWithLinearSpaceMyersDiff() {
+    List<String> original = new ArrayList<>();
+    List<String> revised = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      original.add("line" + i % 7);
+      revised.add("line" + i % 5);
+    }
+
+    Patch<String> patch = DiffUtils.diff(original, revised, new LinearSpaceMyersDiff<>());
+
+    assertThat(DiffUtils.patch(original, patch)).isEqualTo(revised);
+    assertThat(editSizeOf(patch)).isEqualTo(editSizeOf(new MyersDiff<String>().diff(original, revised)));
+  }
+
+  private static int editSizeOf(Patch<String> patch) {
+    int size = 0;
+    for (Delta<String> delta : patch.getDeltas()) {
+      size += delta.getOriginal().size() + delta.getRevised().size();
+    }
+    return size;
+  }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+class LinearSpaceMyersDiffTest {
+
+  private final LinearSpaceMyersDiff<String> linearSpaceMyersDiff = new LinearSpaceMyersDiff<>();
+
+  @Test
+  void should_return_no_delta_for_equal_sequences() {
+    // WHEN
+    Patch<String> patch = linearSpaceMyersDiff.diff(list("aaa", "bbb"), list("aaa", "bbb"));
+    // THEN
+    then(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  void should_find_inserted_elements() {
+    // WHEN
+    Patch<String> patch = linearSpaceMyersDiff.diff(list("hhh"), list("hhh", "jjj", "kkk"));
+    // THEN
+    then(patch.getDeltas()).containsExactly(new InsertDelta<>(new Chunk<>(1, emptyList()), new Chunk<>(1, list("jjj", "kkk"))));
+  }
+
+  @Test
+  void should_find_deleted_elements() {
+    // WHEN
+    Patch<String> patch = linearSpaceMyersDiff.diff(list("ddd", "fff", "ggg"), list("ggg"));
+    // THEN
+    then(patch.getDeltas()).containsExactly(new DeleteDelta<>(new Chunk<>(0, list("ddd", "fff")), new Chunk<>(0, emptyList())));
+  }
+
+  @Test
+  void should_find_mixed_differences() {
+    // GIVEN
+    List<String> original = list("aaa", "bbb", "ccc", "ddd", "eee");
+    List<String> revised = list("aaa", "zzz", "ccc", "eee", "fff");
+    // WHEN
+    Patch<String> patch = linearSpaceMyersDiff.diff(original, revised);
+    // THEN
+    then(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, list("bbb")), new Chunk<>(1, list("zzz"))),
+                                            new DeleteDelta<>(new Chunk<>(3, list("ddd")), new Chunk<>(3, emptyList())),
+                                            new InsertDelta<>(new Chunk<>(5, emptyList()), new Chunk<>(4, list("fff"))));
+  }
+
+  @Test
+  void should_find_a_diff_as_small_as_MyersDiff() {
+    // GIVEN
+    Random random = new Random(0);
+    MyersDiff<String> myersDiff = new MyersDiff<>();
+    for (int i = 0; i < 1_000; i++) {
+      List<String> original = randomSequence(random);
+      List<String> revised = randomSequence(random);
+      // WHEN
+      Patch<String> patch = linearSpaceMyersDiff.diff(original, revised);
+      // THEN
+      then(patch.applyTo(original)).isEqualTo(revised);
+      then(size(patch)).isEqualTo(size(myersDiff.diff(original, revised)));
+    }
+  }
+
+  private static List<String> randomSequence(Random random) {
+    List<String> sequence = new ArrayList<>();
+    int size = random.nextInt(20);
+    for (int i = 0; i < size; i++) {
+      sequence.add(String.valueOf((char) ('a' + random.nextInt(4))));
+    }
+    return sequence;
+  }
+
+  private static int size(Patch<String> patch) {
+    int size = 0;
+    for (Delta<String> delta : patch.getDeltas()) {
+      size += delta.getOriginal().size() + delta.getRevised().size();
+    }
+    return size;
+  }
+}
@@ -88,6 +88,146 @@ class PropertyOrFieldSupport_getSimpleValue_Test {
       then(thrown).isInstanceOf(IntrospectionError.class);
     }
 
+    @Test
+    void should_not_cache_map_keys() {
+      // GIVEN
+      PropertyOrFieldSupport propertyOrFieldSupport = new PropertyOrFieldSupport();
+      input.put("key1", "value1");
+      input.put("key2", "value2");
+      // WHEN
+      propertyOrFieldSupport.getSimpleValue("key1", input);
+      propertyOrFieldSupport.getSimpleValue("key2", input);
+      // THEN
+      then(propertyOrFieldSupport.cachedAccessorsCountOf(input.getClass())).isZero();
+    }
+
+  }
+
+  @Nested
+  class With_bean_input {
+
+    private final PropertyOrFieldSupport propertyOrFieldSupport = new PropertyOrFieldSupport(PropertySupport.instance(),
+                                                                                             FieldSupport.EXTRACTION_OF_PUBLIC_FIELD_ONLY);
+
+    @Test
+    void should_invoke_getter_once_per_extraction() {
+      // GIVEN
+      CountingBean input = new CountingBean();
+      // WHEN
+      propertyOrFieldSupport.getSimpleValue("name", input);
+      Object value = propertyOrFieldSupport.getSimpleValue("name", input);
+      // THEN
+      then(value).isEqualTo("name");
+      then(input.getNameCalls).isEqualTo(2);
+    }
+
+    @Test
+    void should_only_cache_accessors_of_existing_getters_or_fields() {
+      // GIVEN
+      CountingBean input = new CountingBean();
+      propertyOrFieldSupport.getSimpleValue("name", input);
+      // WHEN
+      catchThrowable(() -> propertyOrFieldSupport.getSimpleValue("unknown", input));
+      // THEN
+      then(propertyOrFieldSupport.cachedAccessorsCountOf(CountingBean.class)).isOne();
+    }
+
+    @Test
+    void should_extract_field_value_when_there_is_no_getter() {
+      // GIVEN
+      CountingBean input = new CountingBean();
+      // WHEN
+      propertyOrFieldSupport.getSimpleValue("publicField", input);
+      Object value = propertyOrFieldSupport.getSimpleValue("publicField", input);
+      // THEN
+      then(value).isEqualTo("field");
+    }
+
+    @Test
+    void should_honor_private_fields_setting_changed_after_a_previous_extraction() {
+      // GIVEN
+      PropertyOrFieldSupport underTest = new PropertyOrFieldSupport(PropertySupport.instance(), FieldSupport.extraction());
+      CountingBean input = new CountingBean();
+      underTest.getSimpleValue("privateField", input);
+      underTest.setAllowUsingPrivateFields(false);
+      try {
+        // WHEN
+        Throwable thrown = catchThrowable(() -> underTest.getSimpleValue("privateField", input));
+        // THEN
+        then(thrown).isInstanceOf(IntrospectionError.class);
+      } finally {
+        underTest.setAllowUsingPrivateFields(true);
+      }
+    }
+
+    @Test
+    void should_propagate_getter_exception() {
+      // WHEN
+      Throwable thrown = catchThrowable(() -> propertyOrFieldSupport.getSimpleValue("failing", new CountingBean()));
+      // THEN
+      then(thrown).isInstanceOf(IntrospectionError.class)
+                  .hasMessageContaining("getFailing")
+                  .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_invoke_failing_getter_once_per_extraction() {
+      // GIVEN
+      CountingBean input = new CountingBean();
+      // WHEN
+      catchThrowable(() -> propertyOrFieldSupport.getSimpleValue("failing", input));
+      // THEN
+      then(input.getFailingCalls).isEqualTo(1);
+    }
+
+    @Test
+    void should_rethrow_getter_error_as_is() {
+      // WHEN
+      Throwable thrown = catchThrowable(() -> propertyOrFieldSupport.getSimpleValue("overflowing", new CountingBean()));
+      // THEN
+      then(thrown).isExactlyInstanceOf(StackOverflowError.class);
+    }
+
+    @Test
+    void should_extract_field_value_when_getter_fails() {
+      // GIVEN
+      CountingBean input = new CountingBean();
+      // WHEN
+      Object value = propertyOrFieldSupport.getSimpleValue("fallback", input);
+      // THEN
+      then(value).isEqualTo("fallback field");
+      then(input.getFallbackCalls).isEqualTo(1);
+    }
+
+  }
+
+  public static class CountingBean {
+    public String publicField = "field";
+    @SuppressWarnings("unused")
+    private String privateField = "private";
+    public String fallback = "fallback field";
+    int getNameCalls;
+    int getFailingCalls;
+    int getFallbackCalls;
+
+    public String getName() {
+      getNameCalls++;
+      return "name";
+    }
+
+    public String getFailing() {
+      getFailingCalls++;
+      throw new IllegalStateException("boom");
+    }
+
+    public String getOverflowing() {
+      throw new StackOverflowError();
+    }
+
+    public String getFallback() {
+      getFallbackCalls++;
+      throw new IllegalStateException("boom");
+    }
   }
 
   @Nested
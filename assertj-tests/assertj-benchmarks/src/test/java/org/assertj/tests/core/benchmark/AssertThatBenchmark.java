@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.AbstractStringAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of creating an assertion and of the most common successful assertion.
+ * <p>
+ * Allocations are reported by the JMH gc profiler: {@code -Djmh.args="AssertThat -prof gc"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertThatBenchmark {
+
+  private final String string = "Frodo";
+  private final String equalString = new String("Frodo");
+  private final Integer integer = 1_000;
+  private final Integer equalInteger = Integer.valueOf(1_000);
+  private final Ring ring = new Ring("One Ring");
+  private final Ring equalRing = new Ring("One Ring");
+
+  @Benchmark
+  public AbstractStringAssert<?> assertThat_entry_point() {
+    return assertThat(string);
+  }
+
+  @Benchmark
+  public AbstractStringAssert<?> isEqualTo_String() {
+    return assertThat(string).isEqualTo(equalString);
+  }
+
+  @Benchmark
+  public Object isEqualTo_Integer() {
+    return assertThat(integer).isEqualTo(equalInteger);
+  }
+
+  @Benchmark
+  public Object isEqualTo_Object() {
+    return assertThat(ring).isEqualTo(equalRing);
+  }
+
+  record Ring(String name) {
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.error.AssertionErrorCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of failed assertions, that is the creation of their opentest4j {@code AssertionFailedError}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertionErrorCreationBenchmark {
+
+  private final AssertionErrorCreator assertionErrorCreator = new AssertionErrorCreator();
+  private final Ring actual = new Ring("One Ring");
+  private final Ring expected = new Ring("Nenya");
+
+  @Benchmark
+  public AssertionError failing_isEqualTo() {
+    try {
+      assertThat(actual).isEqualTo(expected);
+    } catch (AssertionError e) {
+      return e;
+    }
+    throw new IllegalStateException("assertion should have failed");
+  }
+
+  @Benchmark
+  public AssertionError assertionError_with_actual_and_expected() {
+    return assertionErrorCreator.assertionError("boom", actual, expected, STANDARD_REPRESENTATION);
+  }
+
+  record Ring(String name) {
+  }
+}
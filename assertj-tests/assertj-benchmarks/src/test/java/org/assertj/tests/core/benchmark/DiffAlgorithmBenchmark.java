@@ -0,0 +1,76 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
+import org.assertj.core.util.diff.myers.MyersDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the Myers diff implementations on texts where a third of the lines changed, run it with {@code -prof gc} to
+ * compare their allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiffAlgorithmBenchmark {
+
+  @Param({ "1000", "10000" })
+  int lines;
+
+  private List<String> original;
+  private List<String> revised;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    original = new ArrayList<>(lines);
+    revised = new ArrayList<>(lines);
+    for (int i = 0; i < lines; i++) {
+      original.add("line" + i);
+      revised.add(random.nextInt(3) == 0 ? "changed line" + i : "line" + i);
+    }
+  }
+
+  @Benchmark
+  public Patch<String> myersDiff() {
+    return new MyersDiff<String>().diff(original, revised);
+  }
+
+  @Benchmark
+  public Patch<String> linearSpaceMyersDiff() {
+    return new LinearSpaceMyersDiff<String>().diff(original, revised);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the iterable containment assertions with the standard comparison strategy and with an element comparator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IterableContainmentBenchmark {
+
+  @Param({ "10", "1000", "100000" })
+  int size;
+
+  private List<String> actual;
+  private String[] values;
+  private String[] shuffledValues;
+
+  @Setup
+  public void setUp() {
+    actual = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      actual.add("element" + i);
+    }
+    values = actual.toArray(new String[0]);
+    List<String> shuffled = new ArrayList<>(actual);
+    Collections.reverse(shuffled);
+    shuffledValues = shuffled.toArray(new String[0]);
+  }
+
+  @Benchmark
+  public Object contains() {
+    return assertThat(actual).contains(shuffledValues);
+  }
+
+  @Benchmark
+  public Object containsOnly() {
+    return assertThat(actual).containsOnly(shuffledValues);
+  }
+
+  @Benchmark
+  public Object containsExactly() {
+    return assertThat(actual).containsExactly(values);
+  }
+
+  @Benchmark
+  public Object containsExactlyInAnyOrder() {
+    return assertThat(actual).containsExactlyInAnyOrder(shuffledValues);
+  }
+
+  @Benchmark
+  public Object containsExactlyInAnyOrder_usingElementComparator() {
+    return assertThat(actual).usingElementComparator(Comparator.<String> naturalOrder())
+                             .containsExactlyInAnyOrder(shuffledValues);
+  }
+}
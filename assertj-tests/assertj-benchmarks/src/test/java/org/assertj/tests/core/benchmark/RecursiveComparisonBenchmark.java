@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the recursive comparison of equal object graphs of various sizes, in order and ignoring collection order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecursiveComparisonBenchmark {
+
+  @Param({ "10", "1000", "10000" })
+  int nodes;
+
+  private Aggregate actual;
+  private Aggregate expected;
+  private Aggregate expectedInReverseOrder;
+
+  @Setup
+  public void setUp() {
+    actual = aggregate(nodes, false);
+    expected = aggregate(nodes, false);
+    expectedInReverseOrder = aggregate(nodes, true);
+  }
+
+  @Benchmark
+  public Object usingRecursiveComparison() {
+    return assertThat(actual).usingRecursiveComparison()
+                             .isEqualTo(expected);
+  }
+
+  @Benchmark
+  public Object usingRecursiveComparison_ignoringCollectionOrder() {
+    return assertThat(actual).usingRecursiveComparison()
+                             .ignoringCollectionOrder()
+                             .isEqualTo(expectedInReverseOrder);
+  }
+
+  private static Aggregate aggregate(int size, boolean reverseOrder) {
+    Aggregate aggregate = new Aggregate("root");
+    Category category = new Category("category");
+    for (int i = 0; i < size; i++) {
+      // items cycle back to the aggregate and share the same category
+      Item item = new Item("item" + i, i, category, aggregate);
+      if (reverseOrder) aggregate.items.add(0, item);
+      else aggregate.items.add(item);
+    }
+    return aggregate;
+  }
+
+  static class Aggregate {
+    String name;
+    List<Item> items = new ArrayList<>();
+
+    Aggregate(String name) {
+      this.name = name;
+    }
+  }
+
+  static class Item {
+    String name;
+    int rank;
+    Category category;
+    Aggregate owner;
+
+    Item(String name, int rank, Category category, Aggregate owner) {
+      this.name = name;
+      this.rank = rank;
+      this.category = category;
+      this.owner = owner;
+    }
+  }
+
+  static class Category {
+    String name;
+
+    Category(String name) {
+      this.name = name;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures soft assertions creation and the collection of their errors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SoftAssertionsBenchmark {
+
+  @Param({ "1", "100" })
+  int assertions;
+
+  @Benchmark
+  public List<AssertionError> passing_soft_assertions() {
+    SoftAssertions softly = new SoftAssertions();
+    for (int i = 0; i < assertions; i++) {
+      softly.assertThat(i).isEqualTo(i);
+      softly.assertThat("Frodo").startsWith("Fro");
+    }
+    return softly.assertionErrorsCollected();
+  }
+
+  @Benchmark
+  public List<AssertionError> failing_soft_assertions() {
+    SoftAssertions softly = new SoftAssertions();
+    for (int i = 0; i < assertions; i++) {
+      softly.assertThat(i).isEqualTo(i + 1);
+      softly.assertThat("Frodo").startsWith("Sam");
+    }
+    return softly.assertionErrorsCollected();
+  }
+}
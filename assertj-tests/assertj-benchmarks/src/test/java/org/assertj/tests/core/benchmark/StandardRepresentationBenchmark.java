@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmark;
+
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the formatting of large collections, arrays and maps as done when building error messages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StandardRepresentationBenchmark {
+
+  @Param({ "10", "1000", "100000" })
+  int size;
+
+  private List<Object> list;
+  private int[] array;
+  private Map<String, Object> map;
+
+  @Setup
+  public void setUp() {
+    list = new ArrayList<>(size);
+    array = new int[size];
+    map = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      list.add(i % 2 == 0 ? "element" + i : i);
+      array[i] = i;
+      map.put("key" + i, i);
+    }
+  }
+
+  @Benchmark
+  public String toStringOf_List() {
+    return STANDARD_REPRESENTATION.toStringOf(list);
+  }
+
+  @Benchmark
+  public String toStringOf_array() {
+    return STANDARD_REPRESENTATION.toStringOf(array);
+  }
+
+  @Benchmark
+  public String toStringOf_Map() {
+    return STANDARD_REPRESENTATION.toStringOf(map);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.junit.jupiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.junit.jupiter.SoftAssertionsExtension.CONCURRENT_ERROR_COLLECTOR_PARAMETER;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.ConcurrentAssertionErrorCollector;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.assertj.core.error.MultipleAssertionsError;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+class SoftAssertionsExtension_ConcurrentErrorCollector_Test {
+
+  @Disabled("Executed via the JUnit Platform Test Kit")
+  @ExtendWith(ExtensionInjector.class)
+  @ExtendWith(SoftAssertionsExtension.class)
+  static class ParallelStreamTest {
+
+    @Test
+    void parallelFailures(ExtensionContext context, SoftAssertions softly) {
+      assertThat(SoftAssertionsExtension.getAssertionErrorCollector(context)).isInstanceOf(ConcurrentAssertionErrorCollector.class);
+      IntStream.range(0, 100).parallel().forEach(i -> softly.assertThat(i).isNegative());
+    }
+
+  }
+
+  @Test
+  void should_collect_errors_with_a_concurrent_collector_when_enabled() {
+    EngineTestKit.engine("junit-jupiter")
+                 .selectors(selectClass(ParallelStreamTest.class))
+                 .configurationParameter("junit.jupiter.conditions.deactivate", "*")
+                 .configurationParameter(CONCURRENT_ERROR_COLLECTOR_PARAMETER, "true")
+                 .execute()
+                 .testEvents()
+                 .assertStatistics(stats -> stats.started(1).succeeded(0).failed(1))
+                 .failed()
+                 .assertThatEvents()
+                 .haveExactly(1, event(test("parallelFailures"),
+                                       finishedWithFailure(instanceOf(MultipleAssertionsError.class),
+                                                           message(msg -> msg.contains("100 assertion errors")))));
+  }
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.junit.jupiter;
+
+import static org.assertj.core.api.junit.jupiter.SoftAssertionsExtension.INHERIT_ERROR_COLLECTOR_PARAMETER;
+import static org.assertj.core.api.junit.jupiter.SoftAssertionsExtension.propagateErrorCollector;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.assertj.core.error.MultipleAssertionsError;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+class SoftAssertionsExtension_propagateErrorCollector_Test {
+
+  @Disabled("Executed via the JUnit Platform Test Kit")
+  @ExtendWith(ExtensionInjector.class)
+  @ExtendWith(SoftAssertionsExtension.class)
+  @Execution(CONCURRENT)
+  static class ExecutorTest {
+
+    // its thread is created before the tests and is not bound to any test error collector
+    static ExecutorService executor;
+
+    @InjectSoftAssertions
+    SoftAssertions softly;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+      executor = Executors.newSingleThreadExecutor();
+      executor.submit(() -> {}).get();
+    }
+
+    @AfterAll
+    static void afterAll() {
+      executor.shutdown();
+    }
+
+    @Test
+    void propagatedRunnable(ExtensionContext context) throws Exception {
+      Runnable task = () -> softly.assertThat("runnable").isEqualTo("expected runnable");
+      executor.submit(propagateErrorCollector(context, task)).get();
+    }
+
+    @Test
+    void propagatedCallable(ExtensionContext context) throws Exception {
+      executor.submit(propagateErrorCollector(context, () -> softly.assertThat("callable").isEqualTo("expected callable")))
+              .get();
+    }
+
+    @Test
+    void notPropagated() throws Throwable {
+      try {
+        executor.submit(() -> softly.assertThat("not propagated").isEqualTo("expected")).get();
+      } catch (ExecutionException e) {
+        throw e.getCause();
+      }
+    }
+
+  }
+
+  @Disabled("Executed via the JUnit Platform Test Kit")
+  @ExtendWith(SoftAssertionsExtension.class)
+  @Execution(CONCURRENT)
+  static class CurrentThreadExecutorTest {
+
+    // its thread is created before the tests and is not bound to any test error collector
+    static ExecutorService executor;
+
+    @InjectSoftAssertions
+    SoftAssertions softly;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+      executor = Executors.newSingleThreadExecutor();
+      executor.submit(() -> {}).get();
+    }
+
+    @AfterAll
+    static void afterAll() {
+      executor.shutdown();
+    }
+
+    @Test
+    void propagatedRunnable() throws Exception {
+      Runnable task = () -> softly.assertThat("runnable").isEqualTo("expected runnable");
+      executor.submit(propagateErrorCollector(task)).get();
+    }
+
+    @Test
+    void propagatedCallable() throws Exception {
+      executor.submit(propagateErrorCollector(() -> softly.assertThat("callable").isEqualTo("expected callable"))).get();
+    }
+
+  }
+
+  @Disabled("Executed via the JUnit Platform Test Kit")
+  @ExtendWith(SoftAssertionsExtension.class)
+  @Execution(CONCURRENT)
+  static class ChildThreadTest {
+
+    @InjectSoftAssertions
+    SoftAssertions softly;
+
+    @Test
+    void childThread() throws Throwable {
+      AtomicReference<Throwable> childThreadError = new AtomicReference<>();
+      Thread thread = new Thread(() -> softly.assertThat("child").isEqualTo("expected child"));
+      thread.setUncaughtExceptionHandler((t, e) -> childThreadError.set(e));
+      thread.start();
+      thread.join();
+      if (childThreadError.get() != null) throw childThreadError.get();
+    }
+
+  }
+
+  @Test
+  void threads_created_by_the_test_should_inherit_the_test_error_collector_by_default() {
+    EngineTestKit.engine("junit-jupiter")
+                 .selectors(selectClass(ChildThreadTest.class))
+                 .configurationParameter("junit.jupiter.conditions.deactivate", "*")
+                 .execute()
+                 .testEvents()
+                 .assertStatistics(stats -> stats.started(1).failed(1))
+                 .failed()
+                 .assertThatEvents()
+                 .haveExactly(1, event(test("childThread"),
+                                       finishedWithFailure(instanceOf(MultipleAssertionsError.class),
+                                                           message(msg -> msg.contains("expected child")))));
+  }
+
+  @Test
+  void threads_created_by_the_test_should_not_inherit_the_test_error_collector_when_disabled() {
+    EngineTestKit.engine("junit-jupiter")
+                 .selectors(selectClass(ChildThreadTest.class))
+                 .configurationParameter("junit.jupiter.conditions.deactivate", "*")
+                 .configurationParameter(INHERIT_ERROR_COLLECTOR_PARAMETER, "false")
+                 .execute()
+                 .testEvents()
+                 .assertStatistics(stats -> stats.started(1).failed(1))
+                 .failed()
+                 .assertThatEvents()
+                 .haveExactly(1, event(test("childThread"),
+                                       finishedWithFailure(instanceOf(IllegalStateException.class),
+                                                           message(msg -> msg.contains("propagateErrorCollector")))));
+  }
+
+  @Test
+  void should_collect_errors_of_tasks_run_by_other_threads_in_the_error_collector_of_the_test_running_in_the_current_thread() {
+    EngineTestKit.engine("junit-jupiter")
+                 .selectors(selectClass(CurrentThreadExecutorTest.class))
+                 .configurationParameter("junit.jupiter.conditions.deactivate", "*")
+                 .execute()
+                 .testEvents()
+                 .assertStatistics(stats -> stats.started(2).succeeded(0).failed(2))
+                 .failed()
+                 // @format:off
+                 .assertThatEvents().haveExactly(1,
+                                                 event(test("propagatedRunnable"),
+                                                       finishedWithFailure(instanceOf(MultipleAssertionsError.class),
+                                                                           message(msg -> msg.contains("expected runnable")
+                                                                                          && !msg.contains("callable")))))
+                                    .haveExactly(1,
+                                                 event(test("propagatedCallable"),
+                                                       finishedWithFailure(instanceOf(MultipleAssertionsError.class),
+                                                                           message(msg -> msg.contains("expected callable")
+                                                                                          && !msg.contains("runnable")))));
+                 // @format:on
+  }
+
+  @Test
+  void should_collect_errors_of_tasks_run_by_other_threads_in_the_test_error_collector() {
+    EngineTestKit.engine("junit-jupiter")
+                 .selectors(selectClass(ExecutorTest.class))
+                 .configurationParameter("junit.jupiter.conditions.deactivate", "*")
+                 .execute()
+                 .testEvents()
+                 .assertStatistics(stats -> stats.started(3).succeeded(0).failed(3))
+                 .failed()
+                 // @format:off
+                 .assertThatEvents().haveExactly(1,
+                                                 event(test("propagatedRunnable"),
+                                                       finishedWithFailure(instanceOf(MultipleAssertionsError.class),
+                                                                           message(msg -> msg.contains("expected runnable")
+                                                                                          && !msg.contains("callable")))))
+                                    .haveExactly(1,
+                                                 event(test("propagatedCallable"),
+                                                       finishedWithFailure(instanceOf(MultipleAssertionsError.class),
+                                                                           message(msg -> msg.contains("expected callable")
+                                                                                          && !msg.contains("runnable")))))
+                                    .haveExactly(1,
+                                                 event(test("notPropagated"),
+                                                       finishedWithFailure(instanceOf(IllegalStateException.class),
+                                                                           message(msg -> msg.contains("propagateErrorCollector")))));
+                 // @format:on
+  }
+
+}
@@ -22,6 +22,7 @@ import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldL
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.recursive.assertion.RecursiveAssertionDriver;
 import org.assertj.core.api.recursive.comparison.FieldLocation;
@@ -63,6 +64,19 @@ class RecursiveAssertionDriver_RecursionTest extends AbstractRecursiveAssertionD
     thenNoException().isThrownBy(() -> objectUnderTest.assertOverObjectGraph(boomOnOveruse, objectTree));
   }
 
+  @Test
+  void should_evaluate_all_the_different_nodes_of_a_large_graph() {
+    // GIVEN
+    RecursiveAssertionDriver objectUnderTest = testSubjectWithDefaultConfiguration();
+    // enough nodes for some of them to share the same identity hash code
+    List<Leaf> leaves = Stream.generate(Leaf::new).limit(200_000).toList();
+    AtomicInteger evaluations = new AtomicInteger();
+    // WHEN
+    objectUnderTest.assertOverObjectGraph(node -> evaluations.incrementAndGet() > 0, leaves);
+    // THEN
+    then(evaluations).hasValue(leaves.size());
+  }
+
   private Predicate<Object> predicateThatThrowsWhenCalledTooOften(int maxCalls) {
     AtomicInteger callLimit = new AtomicInteger(maxCalls - 1);
     return o -> {
@@ -71,4 +85,7 @@ class RecursiveAssertionDriver_RecursionTest extends AbstractRecursiveAssertionD
       return false;
     };
   }
+
+  static class Leaf {
+  }
 }
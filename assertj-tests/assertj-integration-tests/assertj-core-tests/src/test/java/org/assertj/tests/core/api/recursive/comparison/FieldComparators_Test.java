@@ -92,6 +92,19 @@ class FieldComparators_Test {
     then(fieldComparators.getComparatorForField("com.foo")).isSameAs(ALWAY_DIFFERENT);
   }
 
+  @Test
+  void should_use_regex_comparator_registered_after_looking_up_a_field_location_without_comparator() {
+    // GIVEN
+    fieldComparators.registerComparatorForFieldsMatchingRegexes(array(".*bar"), ALWAYS_EQUALS);
+    then(fieldComparators.hasComparatorForField("com.foo")).isFalse();
+    then(fieldComparators.getComparatorForField("com.foo")).isNull();
+    // WHEN
+    fieldComparators.registerComparatorForFieldsMatchingRegexes(array(".*foo"), ALWAY_DIFFERENT);
+    // THEN
+    then(fieldComparators.hasComparatorForField("com.foo")).isTrue();
+    then(fieldComparators.getComparatorForField("com.foo")).isSameAs(ALWAY_DIFFERENT);
+  }
+
   @Test
   void should_prefer_exact_field_location_comparator_over_regex_one() {
     // GIVEN
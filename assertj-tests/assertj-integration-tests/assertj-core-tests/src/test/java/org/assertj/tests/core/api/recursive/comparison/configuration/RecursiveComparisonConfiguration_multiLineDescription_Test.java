@@ -345,6 +345,16 @@ class RecursiveComparisonConfiguration_multiLineDescription_Test {
     then(multiLineDescription).contains("- null and empty iterables were considered equal%n".formatted());
   }
 
+  @Test
+  void should_show_when_comparing_subtrees_in_parallel() {
+    // GIVEN
+    recursiveComparisonConfiguration.compareSubtreesInParallel(true);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains("- the subtrees of the compared values were compared in parallel%n".formatted());
+  }
+
   @Test
   void should_show_when_ignoreTransientFields_is_enabled() {
     // GIVEN
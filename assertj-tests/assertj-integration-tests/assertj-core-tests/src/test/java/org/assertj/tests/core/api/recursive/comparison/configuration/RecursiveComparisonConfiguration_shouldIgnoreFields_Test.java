@@ -168,7 +168,33 @@ class RecursiveComparisonConfiguration_shouldIgnoreFields_Test {
                      arguments(dualValueWithPath("[0]", "first"), list("fir.*")),
                      arguments(dualValueWithPath("[1]", "first", "second"), list("f..st\\..*nd")),
                      arguments(dualValueWithPath("father", "name", "first"),
-                               list("father", "name.first", "father\\.name\\.first")));
+                               list("father", "name.first", "father\\.name\\.first")),
+                     arguments(dualValueWithPath("name"), list("(fo)o", "n(a)me\\1?")),
+                     arguments(dualValueWithPath("name"), list("foo", "(?i)NAME")),
+                     arguments(dualValueWithPath("name"), list("\\Qfoo", "name")));
+  }
+
+  @Test
+  void should_ignore_fields_added_after_a_field_has_been_evaluated() {
+    // GIVEN
+    DualValue dualValue = dualValueWithPath("name", "first");
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue)).isFalse();
+    // WHEN
+    recursiveComparisonConfiguration.ignoreFields("name");
+    // THEN
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue)).isTrue();
+  }
+
+  @Test
+  void should_ignore_fields_matching_regexes_added_after_a_field_has_been_evaluated() {
+    // GIVEN
+    DualValue dualValue = dualValueWithPath("name", "first");
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes("foo");
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue)).isFalse();
+    // WHEN
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes("na.e");
+    // THEN
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue)).isTrue();
   }
 
   @ParameterizedTest(name = "{0} should be ignored")
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.comparison.fields;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_comparingSubtreesInParallel_Test
+    extends WithComparingFieldsIntrospectionStrategyBaseTest {
+
+  private static final int SIZE = 200;
+
+  @Test
+  void should_pass_for_graphs_with_the_same_data() {
+    // GIVEN
+    Company actual = company(SIZE);
+    Company expected = company(SIZE);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .comparingSubtreesInParallel()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_for_graphs_with_different_data() {
+    // GIVEN
+    Company actual = company(SIZE);
+    Company expected = company(SIZE);
+    expected.employees.get(10).name = "Jack";
+    recursiveComparisonConfiguration.compareSubtreesInParallel(true);
+    // WHEN/THEN
+    compareRecursivelyFailsWithDifferences(actual, expected,
+                                           javaTypeDiff("employees[10].name", "employee10", "Jack"));
+  }
+
+  @Test
+  void should_report_the_same_differences_whatever_the_order_subtrees_are_compared_in() {
+    // GIVEN
+    Company actual = company(SIZE);
+    Company expected = company(SIZE);
+    for (int i = 0; i < SIZE; i += 3) {
+      expected.employeesById.get("id" + i).home.address.number = -i;
+    }
+    List<ComparisonDifference> parallelDifferences = determineDifferences(actual, expected,
+                                                                          configuration -> configuration.compareSubtreesInParallel(true));
+    for (int i = 0; i < 5; i++) {
+      // WHEN
+      List<ComparisonDifference> otherParallelDifferences = determineDifferences(actual, expected,
+                                                                                 configuration -> configuration.compareSubtreesInParallel(true));
+      // THEN
+      then(otherParallelDifferences).containsExactlyElementsOf(parallelDifferences);
+    }
+  }
+
+  @Test
+  void should_report_the_same_differences_in_the_same_order_as_a_sequential_comparison() {
+    // GIVEN
+    Company actual = company(SIZE);
+    Company expected = company(SIZE);
+    for (int i = 0; i < SIZE; i += 7) {
+      expected.employees.get(i).name = "changed" + i;
+    }
+    expected.employeesById.get("id" + SIZE / 2).home.address.number = -1;
+    expected.employeesById.remove("id" + (SIZE - 1));
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = determineDifferences(actual, expected,
+                                                                          configuration -> configuration.compareSubtreesInParallel(true));
+    // THEN
+    then(parallelDifferences).hasSizeGreaterThan(SIZE / 7)
+                             .containsExactlyElementsOf(determineDifferences(actual, expected, configuration -> {}));
+  }
+
+  @Test
+  void should_report_values_cycling_back_to_the_root_as_differences_like_a_sequential_comparison() {
+    // GIVEN
+    Company actual = company(SIZE);
+    actual.employees.forEach(employee -> employee.company = actual);
+    Company expected = company(SIZE);
+    expected.employees.forEach(employee -> employee.company = expected);
+    expected.employees.get(SIZE / 2).name = "Jack";
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = determineDifferences(actual, expected,
+                                                                          configuration -> configuration.compareSubtreesInParallel(true));
+    // THEN
+    then(parallelDifferences).containsExactlyElementsOf(determineDifferences(actual, expected, configuration -> {}));
+  }
+
+  @Test
+  void should_pass_when_ignoring_collection_order() {
+    // GIVEN
+    Company actual = company(SIZE);
+    Company expected = company(SIZE);
+    Collections.reverse(expected.employees);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .comparingSubtreesInParallel()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_propagate_exceptions_thrown_while_comparing_subtrees() {
+    // GIVEN
+    Company actual = company(SIZE);
+    Company expected = company(SIZE);
+    // WHEN
+    var recursiveComparisonAssert = assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                      .comparingSubtreesInParallel()
+                                                      .withEqualsForType((name1, name2) -> {
+                                                        throw new IllegalStateException("boom");
+                                                      }, String.class);
+    // THEN
+    thenIllegalStateException().isThrownBy(() -> recursiveComparisonAssert.isEqualTo(expected))
+                               .withMessage("boom");
+  }
+
+  private List<ComparisonDifference> determineDifferences(Object actual, Object expected,
+                                                          Consumer<RecursiveComparisonConfiguration> configurer) {
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+    configurer.accept(configuration);
+    return new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected, configuration);
+  }
+
+  private static Company company(int size) {
+    Company company = new Company();
+    for (int i = 0; i < size; i++) {
+      company.employees.add(employee(i));
+      company.employeesById.put("id" + i, employee(i));
+    }
+    return company;
+  }
+
+  private static Employee employee(int index) {
+    Employee employee = new Employee("employee" + index);
+    employee.home.address.number = index;
+    return employee;
+  }
+
+  static class Company {
+    List<Employee> employees = new ArrayList<>();
+    Map<String, Employee> employeesById = new LinkedHashMap<>();
+  }
+
+  static class Employee extends Person {
+    // cycles back to the compared root value
+    Company company;
+
+    Employee(String name) {
+      super(name);
+    }
+  }
+}
@@ -598,4 +598,78 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
                                                      "  [Item(Shoes, 2)]"));
   }
 
+  @Test
+  void should_pass_when_ignoring_fields_of_types_with_actual_null_field_and_strict_type_checking() {
+    // GIVEN
+    List<Item> actualItems = List.of(new Item(null, 3), new Item(null, 2));
+    List<Item> expectedItems = List.of(new Item("Shoes", 2), new Item("Pants", 3));
+    // WHEN/THEN
+    then(actualItems).usingRecursiveComparison(recursiveComparisonConfiguration)
+                     .withStrictTypeChecking()
+                     .ignoringFieldsOfTypes(String.class)
+                     .ignoringCollectionOrder()
+                     .isEqualTo(expectedItems);
+  }
+
+  record Value(Object content, int rank) {
+  }
+
+  @Test
+  void should_pass_when_ignoring_fields_of_types_of_actual_polymorphic_fields() {
+    // GIVEN
+    List<Value> actualValues = List.of(new Value("one", 1), new Value("two", 2));
+    List<Value> expectedValues = List.of(new Value(2, 2), new Value(1, 1));
+    // WHEN/THEN
+    then(actualValues).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .ignoringFieldsOfTypesMatchingRegexes("java\\.lang\\.String")
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expectedValues);
+  }
+
+  // overrides equals but not hashCode
+  static class EqualByName {
+    final String name;
+    final int version;
+
+    EqualByName(String name, int version) {
+      this.name = name;
+      this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof EqualByName equalByName && name.equals(equalByName.name);
+    }
+  }
+
+  // root objects are never compared with equals, the elements must be in a field
+  record EqualByNameHolder(List<EqualByName> elements) {
+  }
+
+  @Test
+  void should_pass_when_honoring_overridden_equals_not_consistent_with_hash_code() {
+    // GIVEN
+    var actual = new EqualByNameHolder(List.of(new EqualByName("one", 1), new EqualByName("two", 1)));
+    var expected = new EqualByNameHolder(List.of(new EqualByName("two", 2), new EqualByName("one", 2)));
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .usingOverriddenEquals()
+                .ignoringCollectionOrder()
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_when_honoring_overridden_equals_not_consistent_with_hash_code_and_elements_differ() {
+    // GIVEN
+    var actual = new EqualByNameHolder(List.of(new EqualByName("one", 1), new EqualByName("two", 1)));
+    var expected = new EqualByNameHolder(List.of(new EqualByName("two", 2), new EqualByName("three", 2)));
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                      .usingOverriddenEquals()
+                                                                      .ignoringCollectionOrder()
+                                                                      .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("The following expected elements were not matched in the actual List12");
+  }
+
 }
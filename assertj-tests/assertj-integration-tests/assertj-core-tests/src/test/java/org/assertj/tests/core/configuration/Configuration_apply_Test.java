@@ -25,13 +25,20 @@ import java.util.Date;
 import org.assertj.core.api.AssumptionExceptionFactory;
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.PatternCache;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.introspection.FieldSupport;
 import org.assertj.core.util.introspection.Introspection;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 class Configuration_apply_Test {
 
+  @AfterEach
+  void afterEach() {
+    Configuration.DEFAULT_CONFIGURATION.apply();
+  }
+
   @Test
   void apply_should_change_assertj_behavior() throws Exception {
     // GIVEN
@@ -46,10 +53,13 @@ class Configuration_apply_Test {
     // a bit dodgy but since our custom representation inherits StandardRepresentation, changing maxElementsForPrinting and
     // maxLengthForSingleLineDescription will be effective.
     then(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(configuration.maxElementsForPrinting());
+    then(StandardRepresentation.getMaxElementsIteratedForPrinting()).isEqualTo(configuration.maxElementsIteratedForPrinting());
     then(StandardRepresentation.getMaxStackTraceElementsDisplayed()).isEqualTo(configuration.maxStackTraceElementsDisplayed());
     then(StandardRepresentation.getMaxLengthForSingleLineDescription()).isEqualTo(configuration.maxLengthForSingleLineDescription());
     boolean removeAssertJRelatedElementsFromStackTrace = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
     then(removeAssertJRelatedElementsFromStackTrace).isEqualTo(configuration.removeAssertJRelatedElementsFromStackTraceEnabled());
+    then(Failures.instance().isCaptureOnlyUserStackFrames()).isEqualTo(configuration.captureOnlyUserStackFramesEnabled());
+    then(Failures.instance().getMaxCapturedUserStackFrames()).isEqualTo(configuration.maxCapturedUserStackFrames());
     Date dateTime = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").parse("2001-02-03T04:05:06");
     then(dateTime).isEqualTo("2001-02-03T04:05:06");
     // check that additional date formats can be used
@@ -57,6 +67,7 @@ class Configuration_apply_Test {
     then(date).isEqualTo("2001_02_03")
               .isEqualTo("2001|02|03");
     then(AssumptionExceptionFactory.getPreferredAssumptionException()).isEqualTo(configuration.preferredAssumptionException());
+    then(PatternCache.getMaxSize()).isEqualTo(configuration.maxCachedPatterns());
   }
 
   @Test
@@ -52,11 +52,15 @@ class Configuration_describe_Test {
                                        "- additional date formats ......................... = [yyyy_MM_dd, yyyy|MM|dd]%n" +
                                        "- maxLengthForSingleLineDescription ............... = 81%n" +
                                        "- maxElementsForPrinting .......................... = 1001%n" +
+                                       "- maxElementsIteratedForPrinting .................. = 10001%n" +
                                        "- maxStackTraceElementsDisplayed................... = 4%n" +
                                        "- printAssertionsDescription ...................... = false%n" +
                                        "- descriptionConsumer ............................. = sysout%n" +
                                        "- removeAssertJRelatedElementsFromStackTraceEnabled = false%n" +
-                                       "- preferredAssumptionException .................... = TEST_NG(org.testng.SkipException)%n"));
+                                       "- captureOnlyUserStackFramesEnabled ............... = true%n" +
+                                       "- maxCapturedUserStackFrames ...................... = 5%n" +
+                                       "- preferredAssumptionException .................... = TEST_NG(org.testng.SkipException)%n" +
+                                       "- maxCachedPatterns ............................... = 101%n"));
   }
 
 }
@@ -55,6 +55,11 @@ class NonDefaultConfiguration extends Configuration {
     return super.maxElementsForPrinting() + 1;
   }
 
+  @Override
+  public int maxElementsIteratedForPrinting() {
+    return super.maxElementsIteratedForPrinting() + 1;
+  }
+
   @Override
   public int maxLengthForSingleLineDescription() {
     return super.maxLengthForSingleLineDescription() + 1;
@@ -65,6 +70,16 @@ class NonDefaultConfiguration extends Configuration {
     return !super.removeAssertJRelatedElementsFromStackTraceEnabled();
   }
 
+  @Override
+  public boolean captureOnlyUserStackFramesEnabled() {
+    return !super.captureOnlyUserStackFramesEnabled();
+  }
+
+  @Override
+  public int maxCapturedUserStackFrames() {
+    return 5;
+  }
+
   @Override
   public int maxStackTraceElementsDisplayed() {
     return super.maxStackTraceElementsDisplayed() + 1;
@@ -80,4 +95,9 @@ class NonDefaultConfiguration extends Configuration {
     return PreferredAssumptionException.TEST_NG;
   }
 
+  @Override
+  public int maxCachedPatterns() {
+    return super.maxCachedPatterns() + 1;
+  }
+
 }
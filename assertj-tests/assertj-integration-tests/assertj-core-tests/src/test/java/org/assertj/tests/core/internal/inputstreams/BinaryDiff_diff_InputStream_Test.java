@@ -82,6 +82,39 @@ class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  void should_return_diff_if_inputstreams_differ_after_several_buffers() throws IOException {
+    byte[] actualContent = new byte[20_000];
+    byte[] expectedContent = new byte[20_000];
+    expectedContent[17_000] = (byte) 0xCA;
+    actual = new ByteArrayInputStream(actualContent);
+    expected = new ByteArrayInputStream(expectedContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.offset).isEqualTo(17_000);
+    assertThat(result.actual).isEqualTo("0x0");
+    assertThat(result.expected).isEqualTo("0xCA");
+  }
+
+  @Test
+  void should_return_diff_if_actual_is_shorter_by_a_whole_buffer() throws IOException {
+    actual = new ByteArrayInputStream(new byte[8192]);
+    expected = new ByteArrayInputStream(new byte[8193]);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.offset).isEqualTo(8192);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0x0");
+  }
+
+  @Test
+  void should_return_no_diff_if_inputstreams_have_equal_content_spanning_several_buffers() throws IOException {
+    actual = new ByteArrayInputStream(new byte[3 * 8192]);
+    expected = new ByteArrayInputStream(new byte[3 * 8192]);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
@@ -28,6 +28,8 @@ import org.assertj.core.internal.Diff;
 import org.assertj.core.util.diff.Delta;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * @author Matthieu Baechler
@@ -122,4 +124,50 @@ class Diff_diff_InputStream_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 1:%n"
                                                 + "  [\"\"]%n"));
   }
+
+  @Test
+  void should_return_empty_diff_list_if_inputstreams_only_differ_by_line_separators() throws IOException {
+    // GIVEN
+    actual = new ByteArrayInputStream("base\r\nline0\rline1\n".getBytes(StandardCharsets.US_ASCII));
+    expected = new ByteArrayInputStream("base\nline0\nline1".getBytes(StandardCharsets.US_ASCII));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).isEmpty();
+  }
+
+  @Test
+  void should_report_the_line_of_a_difference_located_after_several_chunks_of_common_content() throws IOException {
+    // GIVEN
+    String commonContent = "common line\n".repeat(5_000) + "a long common line start".repeat(1_000);
+    actual = new ByteArrayInputStream((commonContent + "|actual end\nlast").getBytes(StandardCharsets.US_ASCII));
+    expected = new ByteArrayInputStream((commonContent + "|expected end\nlast").getBytes(StandardCharsets.US_ASCII));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0).lineNumber()).isEqualTo(5_001);
+    assertThat(diffs.get(0).getRevised().getLines()).containsExactly("a long common line start".repeat(1_000) + "|actual end");
+    assertThat(diffs.get(0).getOriginal().getLines()).containsExactly("a long common line start".repeat(1_000)
+                                                                      + "|expected end");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "\r", "\n", "\r\n", "\n\r" })
+  void should_report_the_same_deltas_as_the_line_by_line_diff_whatever_the_line_separators(String lineSeparator)
+      throws IOException {
+    // GIVEN
+    // puts line separators around the chunk boundaries
+    String commonContent = ("x".repeat(8190) + lineSeparator).repeat(3);
+    String actualContent = commonContent + "line0" + lineSeparator + "line_1" + lineSeparator + "line2";
+    String expectedContent = commonContent + "line0" + lineSeparator + "line1" + lineSeparator + "line2\r\n";
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(new ByteArrayInputStream(actualContent.getBytes(StandardCharsets.US_ASCII)),
+                                          new ByteArrayInputStream(expectedContent.getBytes(StandardCharsets.US_ASCII)));
+    // THEN
+    List<Delta<String>> lineByLineDiffs = diff.diff(new ByteArrayInputStream(actualContent.getBytes(StandardCharsets.US_ASCII)),
+                                                    expectedContent);
+    assertThat(diffs).hasSize(1)
+                     .isEqualTo(lineByLineDiffs);
+  }
 }
@@ -139,7 +139,7 @@ class Paths_assertHasSameBinaryContentAs_Test extends PathsBaseTest {
     // GIVEN
     Path actual = Files.write(tempDir.resolve("actual"), actualContent.getBytes(actualCharset));
     Path expected = Files.write(tempDir.resolve("expected"), expectedContent.getBytes(expectedCharset));
-    BinaryDiffResult diff = binaryDiff.diff(actual, expectedContent.getBytes(expectedCharset));
+    BinaryDiffResult diff = binaryDiff.diff(actual, expected);
     // WHEN
     var error = expectAssertionError(() -> underTest.assertHasSameBinaryContentAs(INFO, actual, expected));
     // THEN
@@ -152,7 +152,7 @@ class Paths_assertHasSameBinaryContentAs_Test extends PathsBaseTest {
     Path actual = Files.write(tempDir.resolve("actual"), "Content".getBytes());
     Path expected = Files.write(tempDir.resolve("expected"), "Content".getBytes());
     IOException exception = new IOException("boom!");
-    willThrow(exception).given(binaryDiff).diff(actual, "Content".getBytes());
+    willThrow(exception).given(binaryDiff).diff(actual, expected);
     // WHEN
     Throwable thrown = catchThrowable(() -> underTest.assertHasSameBinaryContentAs(INFO, actual, expected));
     // THEN
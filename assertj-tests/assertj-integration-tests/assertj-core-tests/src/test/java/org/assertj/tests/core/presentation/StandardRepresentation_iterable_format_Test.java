@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.assertj.core.configuration.Configuration;
@@ -197,6 +198,58 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
     then(formatted).isEqualTo("[\"First\", 3, 4, ... 5, \"another\", 6]");
   }
 
+  @Test
+  void should_format_first_and_last_elements_of_iterable_having_up_to_the_maximum_iterated_elements() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(6);
+    StandardRepresentation.setMaxElementsIteratedForPrinting(8);
+    Iterable<Integer> iterable = () -> IntStream.rangeClosed(1, 8).iterator();
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(iterable);
+    // THEN
+    then(formatted).isEqualTo("[1, 2, 3, ... 6, 7, 8]");
+  }
+
+  @Test
+  void should_only_format_first_elements_of_iterable_having_more_than_the_maximum_iterated_elements() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(6);
+    StandardRepresentation.setMaxElementsIteratedForPrinting(8);
+    Iterable<Integer> iterable = () -> IntStream.rangeClosed(1, 9).iterator();
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(iterable);
+    // THEN
+    then(formatted).isEqualTo("[1, 2, 3, ...]");
+  }
+
+  @Test
+  @Timeout(value = 4, unit = TimeUnit.SECONDS)
+  void should_format_first_elements_of_infinite_iterable() {
+    // GIVEN
+    Iterable<Integer> infiniteIterable = () -> Stream.iterate(1, i -> i + 1).iterator();
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(infiniteIterable);
+    // THEN
+    then(formatted).startsWith(format("[1,%n    2,%n"))
+                   .endsWith(format("    500,%n    ...]"));
+  }
+
+  @Test
+  void should_only_format_displayed_elements_of_random_access_list() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(2);
+    List<Object> list = list("a", new Object() {
+      @Override
+      public String toString() {
+        throw new IllegalStateException("should not be represented");
+      }
+    }, "c");
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo("[\"a\", ... \"c\"]");
+  }
+
   @Test
   void should_format_iterable_with_an_element_per_line_according_the_given_representation() {
     // GIVEN
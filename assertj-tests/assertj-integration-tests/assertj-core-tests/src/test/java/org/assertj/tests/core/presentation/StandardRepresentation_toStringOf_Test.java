@@ -666,6 +666,37 @@ class StandardRepresentation_toStringOf_Test extends AbstractBaseRepresentationT
     then(toString).isEqualTo("[\"abc\", \"def\"]");
   }
 
+  @Test
+  void should_use_overridden_toStringOf_methods_of_subclasses_for_already_formatted_types() {
+    // GIVEN
+    StandardRepresentation.STANDARD_REPRESENTATION.toStringOf(LocalDate.of(2000, 1, 1));
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String toStringOf(LocalDate localDate) {
+        return "year " + localDate.getYear();
+      }
+    };
+    // WHEN
+    String toString = representation.toStringOf((Object) LocalDate.of(2000, 1, 1));
+    // THEN
+    then(toString).isEqualTo("year 2000");
+  }
+
+  @Test
+  void should_use_formatters_registered_after_the_type_was_formatted() {
+    // GIVEN
+    then(STANDARD_REPRESENTATION.toStringOf(YearMonth.of(2000, 1))).isEqualTo("2000-01 (java.time.YearMonth)");
+    StandardRepresentation.registerFormatterForType(YearMonth.class, yearMonth -> "month " + yearMonth.getMonthValue());
+    try {
+      // WHEN
+      String toString = STANDARD_REPRESENTATION.toStringOf(YearMonth.of(2000, 1));
+      // THEN
+      then(toString).isEqualTo("month 1");
+    } finally {
+      StandardRepresentation.removeAllRegisteredFormatters();
+    }
+  }
+
   static class VolatileSizeArrayList<T> extends AtomicInteger implements List<T> {
 
     @Serial
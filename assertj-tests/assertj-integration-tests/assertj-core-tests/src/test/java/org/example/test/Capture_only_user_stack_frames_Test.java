@@ -0,0 +1,114 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.example.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.setRemoveAssertJRelatedElementsFromStackTrace;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.configuration.Configuration.MAX_CAPTURED_USER_STACK_FRAMES;
+import static org.assertj.tests.core.testkit.StackTraceUtils.checkNoAssertjStackTraceElementIn;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.internal.Failures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class Capture_only_user_stack_frames_Test {
+
+  @BeforeEach
+  public void beforeTest() {
+    setRemoveAssertJRelatedElementsFromStackTrace(true);
+    Failures.instance().setCaptureOnlyUserStackFrames(true);
+  }
+
+  @AfterEach
+  public void afterTest() {
+    setRemoveAssertJRelatedElementsFromStackTrace(true);
+    Failures.instance().setCaptureOnlyUserStackFrames(false);
+    Failures.instance().setMaxCapturedUserStackFrames(MAX_CAPTURED_USER_STACK_FRAMES);
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void stacktrace_should_only_include_user_frames(ThrowingCallable throwingCallable) {
+    // WHEN
+    var assertionError = expectAssertionError(throwingCallable);
+    // THEN
+    checkNoAssertjStackTraceElementIn(assertionError);
+    StackTraceElement[] stackTrace = assertionError.getStackTrace();
+    then(stackTrace[0].getClassName()).contains(Capture_only_user_stack_frames_Test.class.getName());
+    then(stackTrace).extracting(StackTraceElement::getClassName)
+                    .noneMatch(className -> className.startsWith("java.") || className.startsWith("jdk."));
+  }
+
+  static Stream<ThrowingCallable> stacktrace_should_only_include_user_frames() {
+    return Stream.of(() -> assertThat(0).isEqualTo(1),
+                     () -> assertThat(0).satisfies(x -> assertThat(x).isEqualTo(1)),
+                     () -> assertThat(0).satisfies(_ -> assertThat(0).satisfies(_ -> assertThat(2).isEqualTo(1))));
+  }
+
+  @Test
+  void stacktrace_should_include_at_most_max_captured_user_stack_frames() {
+    // GIVEN
+    Failures.instance().setMaxCapturedUserStackFrames(2);
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(0).isEqualTo(1));
+    // THEN
+    then(assertionError.getStackTrace()).hasSize(2)
+                                        .extracting(StackTraceElement::getClassName)
+                                        .allMatch(className -> className.contains(Capture_only_user_stack_frames_Test.class.getName()));
+  }
+
+  @Test
+  void stacktrace_should_include_at_most_default_max_captured_user_stack_frames() {
+    // WHEN
+    var assertionError = expectAssertionError(() -> failDeepInUserCode(2 * MAX_CAPTURED_USER_STACK_FRAMES));
+    // THEN
+    then(assertionError.getStackTrace()).hasSize(MAX_CAPTURED_USER_STACK_FRAMES);
+  }
+
+  private static void failDeepInUserCode(int depth) {
+    if (depth == 0) assertThat(0).isEqualTo(1);
+    else failDeepInUserCode(depth - 1);
+  }
+
+  @Test
+  void should_not_capture_only_user_stack_frames_if_assertj_related_elements_are_not_removed() {
+    // GIVEN
+    setRemoveAssertJRelatedElementsFromStackTrace(false);
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(0).isEqualTo(1));
+    // THEN
+    then(assertionError.getStackTrace()).extracting(StackTraceElement::getClassName)
+                                        .anyMatch(className -> className.startsWith("org.assertj.core"));
+  }
+
+  @Test
+  void should_fail_if_max_captured_user_stack_frames_is_not_positive() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> Failures.instance().setMaxCapturedUserStackFrames(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("maxCapturedUserStackFrames must be > 0, but was 0");
+  }
+}
@@ -16,4 +16,5 @@
 open module org.assertj.tests.core.perf {
   requires org.assertj.core;
   requires org.junit.jupiter.api;
+  requires jdk.management;
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * This test ensures that creating an assertion and performing a passing assertion is cheap.
+ * <p>
+ * Every assertion used to create its own assertion error creator looking up the opentest4j {@code ValueWrapper} by reflection,
+ * a passing {@code assertThat(actual).isEqualTo(expected)} allocated close to 300 bytes, it now allocates about 110 bytes,
+ * mostly the assertion and its info.
+ */
+class AssertThatAllocationPerfTest {
+
+  private static final int ASSERTIONS = 1_000_000;
+
+  @Test
+  void test_passing_isEqualTo_allocations() {
+    // warm up so that allocations of the JIT compiler and class initializations are not measured
+    allocatedBytesPerAssertion();
+    long allocatedBytesPerAssertion = allocatedBytesPerAssertion();
+    assertThat(allocatedBytesPerAssertion).isLessThan(200);
+  }
+
+  private static long allocatedBytesPerAssertion() {
+    ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().threadId();
+    String actual = "Frodo";
+    String expected = new String("Frodo");
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < ASSERTIONS; i++) {
+      assertThat(actual).isEqualTo(expected);
+    }
+    return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ASSERTIONS;
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure assertThat(list_of_1m_elements).containsExactlyInAnyOrder(...) and containsExactly(...) are O(N)
+ * rather than O(N^2) operations when elements are compared with equals.
+ * <p>
+ * Each expected element used to be looked up and removed from a copy of actual, given that the elements below are all
+ * distinct, O(N^2) is O(1000 billion), counting the elements in a hash based multiset is O(1 million) which takes less than
+ * a second on a warm JVM and a few seconds on a cold one, 10 seconds is thus a good threshold to prevent any regression
+ * to O(N^2).
+ *
+ * @see ContainsOnlyPerfTest
+ */
+class ContainsExactlyInAnyOrderPerfTest {
+
+  private static final int SIZE = 1_000_000;
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsExactlyInAnyOrder_1mElements() {
+    List<Integer> actual = new ArrayList<>();
+    for (int i = 0; i < SIZE; i++) {
+      actual.add(i);
+    }
+    Integer[] values = new Integer[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      values[i] = SIZE - 1 - i;
+    }
+    assertThat(actual).containsExactlyInAnyOrder(values);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsExactly_1mElements() {
+    // containsExactly first checks that actual and expected have the same elements whatever their order
+    List<String> actual = new ArrayList<>();
+    String[] values = new String[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      actual.add("element" + i);
+      values[i] = "element" + i;
+    }
+    assertThat(actual).containsExactly(values);
+  }
+
+}
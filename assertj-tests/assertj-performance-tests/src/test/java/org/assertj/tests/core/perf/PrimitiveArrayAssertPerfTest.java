@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure assertions on large primitive arrays compared with equals don't box their elements.
+ * <p>
+ * The elements of these 4M elements arrays used to be boxed and compared through the comparison strategy, some assertions
+ * like containsOnly being O(N^2), checking the primitive values directly takes around a second for all the assertions.
+ * 10 seconds is a threshold clearly distinguishing both behaviors while leaving room for slow test agents.
+ */
+class PrimitiveArrayAssertPerfTest {
+
+  private static final int SIZE = 4_000_000;
+
+  private int[] ints;
+  private double[] doubles;
+
+  @BeforeEach
+  void setUp() {
+    ints = new int[SIZE];
+    doubles = new double[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      ints[i] = i;
+      doubles[i] = i / 10.0;
+    }
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_int_array_assertions() {
+    assertThat(ints).contains(ints)
+                    .containsOnly(ints)
+                    .containsExactly(ints.clone())
+                    .containsSequence(SIZE - 3, SIZE - 2, SIZE - 1)
+                    .doesNotHaveDuplicates()
+                    .isSorted();
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_double_array_assertions() {
+    assertThat(doubles).contains(doubles)
+                       .containsOnly(doubles)
+                       .containsExactly(doubles.clone())
+                       .containsSequence(doubles[SIZE - 2], doubles[SIZE - 1])
+                       .doesNotHaveDuplicates()
+                       .isSorted();
+  }
+
+}
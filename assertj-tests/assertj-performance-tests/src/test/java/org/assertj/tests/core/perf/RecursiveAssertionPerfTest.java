@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the recursive assertion of large object graphs does not spend most of its time tracking visited nodes.
+ * <p>
+ * Visited nodes used to be identified by a {@code className@identityHashCode} String, building these strings took about half
+ * of the time of the 2M nodes graph assertion below, nodes are now tracked by identity without any allocation per node.
+ */
+class RecursiveAssertionPerfTest {
+
+  private static final int NODES = 1_000_000;
+
+  @Test
+  @Timeout(value = 20)
+  void test_recursive_assertion_of_a_2M_nodes_graph() {
+    List<Item> items = new ArrayList<>();
+    for (int i = 0; i < NODES; i++) {
+      items.add(new Item(new Category()));
+    }
+    long start = System.currentTimeMillis();
+    assertThat(new Aggregate(items)).usingRecursiveAssertion()
+                                    .allFieldsSatisfy(Objects::nonNull);
+    System.out.println("recursive assertion of a 2M nodes graph took " + (System.currentTimeMillis() - start) + "ms");
+  }
+
+  static class Aggregate {
+    List<Item> items;
+
+    Aggregate(List<Item> items) {
+      this.items = items;
+    }
+  }
+
+  static class Item {
+    Category category;
+
+    Item(Category category) {
+      this.category = category;
+    }
+  }
+
+  static class Category {
+  }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the recursive comparison of large object graphs is linear in the number of visited nodes.
+ * <p>
+ * Visited nodes used to be tracked in a list scanned for every compared node to detect cycles and aggregate
+ * differences, comparing the 50k nodes graphs below took more than 5 minutes, it now takes a few seconds on a cold JVM.
+ * 20 seconds is thus a threshold clearly distinguishing a linear behavior from a quadratic one.
+ * <p>
+ * Similarly, unordered collections elements used to be compared to all the other elements in the worst case.
+ * <p>
+ * Ignored fields and regexes are evaluated once per field location path and not for every compared node.
+ * <p>
+ * Comparing subtrees in parallel must not be slower than the sequential comparison, even on a single core.
+ */
+class RecursiveComparisonPerfTest {
+
+  private static final int NODES = 50_000;
+
+  @Test
+  @Timeout(value = 20)
+  void test_recursive_comparison_of_equal_50k_nodes_graphs() {
+    assertThat(aggregate("root", NODES)).usingRecursiveComparison()
+                                        .isEqualTo(aggregate("root", NODES));
+  }
+
+  @Test
+  @Timeout(value = 20)
+  void test_recursive_comparison_of_different_50k_nodes_graphs() {
+    Aggregate actual = aggregate("root", NODES);
+    Aggregate expected = aggregate("root", NODES);
+    expected.items.get(NODES / 2).name = "changed";
+    Throwable error = catchThrowable(() -> assertThat(actual).usingRecursiveComparison().isEqualTo(expected));
+    assertThat(error).hasMessageContaining("items[%s].name".formatted(NODES / 2));
+  }
+
+  @Test
+  @Timeout(value = 20)
+  void test_recursive_comparison_ignoring_collection_order_of_20k_elements_lists() {
+    List<Category> actual = new ArrayList<>();
+    List<Category> expected = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      actual.add(new Category("category" + i));
+      expected.add(0, new Category("category" + i));
+    }
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 20)
+  void test_recursive_comparison_of_50k_nodes_graphs_with_200_ignored_fields_and_regexes() {
+    String[] ignoredFields = IntStream.range(0, 200).mapToObj(i -> "items.field" + i).toArray(String[]::new);
+    String[] ignoredFieldsRegexes = IntStream.range(0, 200).mapToObj(i -> ".*\\.regex" + i).toArray(String[]::new);
+    assertThat(aggregate("root", NODES)).usingRecursiveComparison()
+                                        .ignoringFields(ignoredFields)
+                                        .ignoringFieldsMatchingRegexes(ignoredFieldsRegexes)
+                                        .isEqualTo(aggregate("root", NODES));
+  }
+
+  @Test
+  @Timeout(value = 20)
+  void test_recursive_comparison_of_different_50k_nodes_graphs_comparing_subtrees_in_parallel() {
+    Aggregate actual = aggregate("root", NODES);
+    Aggregate expected = aggregate("root", NODES);
+    expected.items.get(NODES / 2).name = "changed";
+    Throwable error = catchThrowable(() -> assertThat(actual).usingRecursiveComparison()
+                                                             .comparingSubtreesInParallel()
+                                                             .isEqualTo(expected));
+    assertThat(error).hasMessageContaining("items[%s].name".formatted(NODES / 2));
+  }
+
+  private static Aggregate aggregate(String name, int size) {
+    Aggregate aggregate = new Aggregate(name);
+    Category category = new Category("category");
+    for (int i = 0; i < size; i++) {
+      // items cycle back to the aggregate and share the same category
+      aggregate.items.add(new Item("item" + i, i, category, aggregate));
+    }
+    return aggregate;
+  }
+
+  static class Aggregate {
+    String name;
+    List<Item> items = new ArrayList<>();
+
+    Aggregate(String name) {
+      this.name = name;
+    }
+  }
+
+  static class Item {
+    String name;
+    int rank;
+    Category category;
+    Aggregate owner;
+
+    Item(String name, int rank, Category category, Aggregate owner) {
+      this.name = name;
+      this.rank = rank;
+      this.category = category;
+      this.owner = owner;
+    }
+  }
+
+  static class Category {
+    String name;
+
+    Category(String name) {
+      this.name = name;
+    }
+  }
+
+}
@@ -45,6 +45,7 @@ import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 
+import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.util.Lists;
@@ -273,6 +274,16 @@ class SoftAssertionsPerfTest {
     catchThrowable(() -> softly.assertAll());
   }
 
+  @Test
+  void should_create_custom_soft_assertions_with_proxy() {
+    // custom soft assertions are created with proxy, make sure creating them stays cheap
+    for (int i = 0; i < 1_000_000; i++) {
+      softly.proxy(CartoonCharacterAssert.class, CartoonCharacter.class, homer).hasName("Homer Simpson");
+    }
+    softly.proxy(CartoonCharacterAssert.class, CartoonCharacter.class, bart).hasName("Lisa Simpson");
+    assertThat(softly.errorsCollected()).hasSize(1);
+  }
+
   @SafeVarargs
   private static <K, V> LinkedHashMap<K, V> mapOf(MapEntry<K, V>... entries) {
     LinkedHashMap<K, V> map = new LinkedHashMap<>();
@@ -302,4 +313,19 @@ class SoftAssertionsPerfTest {
 
   }
 
+  private static class CartoonCharacterAssert extends AbstractAssert<CartoonCharacterAssert, CartoonCharacter> {
+
+    public CartoonCharacterAssert(CartoonCharacter actual) {
+      super(actual, CartoonCharacterAssert.class);
+    }
+
+    CartoonCharacterAssert hasName(String name) {
+      return executeAssertion(() -> {
+        isNotNull();
+        if (!actual.name.equals(name)) failWithMessage("Expected name to be %s but was %s", name, actual.name);
+      });
+    }
+
+  }
+
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure that comparing the textual content of large inputs does not depend on the number of differences.
+ * <p>
+ * The whole contents used to be diffed at once with a cost quadratic in the number of differences, 200k lines inputs
+ * differing on every line could not be diffed. Only a bounded window of lines starting at the first difference is now
+ * diffed, which takes well under a second, 10 seconds is thus a comfortable threshold.
+ */
+class TextualDiffPerfTest {
+
+  private static final int LINES = 200_000;
+
+  @Test
+  @Timeout(value = 10)
+  void test_hasSameContentAs_with_200k_equal_lines() {
+    assertThat(content(i -> "line" + i)).hasSameContentAs(content(i -> "line" + i));
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_hasSameContentAs_with_200k_different_lines() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(content(i -> "line" + i)).hasSameContentAs(content(i -> "other" + i)));
+    // THEN
+    assertThat(error).hasMessageContaining("Changed content at line 1:");
+  }
+
+  private static InputStream content(IntFunction<String> line) {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < LINES; i++) {
+      content.append(line.apply(i)).append('\n');
+    }
+    return new ByteArrayInputStream(content.toString().getBytes(UTF_8));
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.Comparator.comparing;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.comparisonstrategy.TotalOrderComparator.totalOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure containment assertions using an element comparator declared as a total order are O(N log N) rather
+ * than O(N^2) operations.
+ * <p>
+ * Each value used to be looked up in all the actual elements, for 500k elements O(N^2) is O(250 billion) comparisons which
+ * takes minutes, sorting both sides takes less than a second, 10 seconds is thus a good threshold to prevent any
+ * regression to O(N^2).
+ *
+ * @see ContainsOnlyPerfTest
+ */
+class TotalOrderElementComparatorPerfTest {
+
+  private static final int SIZE = 500_000;
+
+  private List<Entity> actual;
+  private Entity[] values;
+
+  @BeforeEach
+  void setUp() {
+    actual = new ArrayList<>(SIZE);
+    values = new Entity[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      actual.add(new Entity(i, "actual" + i));
+      values[SIZE - 1 - i] = new Entity(i, "expected" + i);
+    }
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_contains_500kElements() {
+    assertThat(actual).usingElementComparator(totalOrder(comparing(Entity::id)))
+                      .contains(values);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_doesNotContain_500kElements() {
+    Entity[] otherValues = new Entity[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      otherValues[i] = new Entity(SIZE + i, "other" + i);
+    }
+    assertThat(actual).usingElementComparator(totalOrder(comparing(Entity::id)))
+                      .doesNotContain(otherValues);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_isSubsetOf_500kElements() {
+    assertThat(actual).usingElementComparator(totalOrder(comparing(Entity::id)))
+                      .isSubsetOf(values);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsExactlyInAnyOrder_500kElements() {
+    assertThat(actual).usingElementComparator(totalOrder(comparing(Entity::id)))
+                      .containsExactlyInAnyOrder(values);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_containsExactlyInAnyOrder_500kElements_array() {
+    assertThat(actual.toArray(new Entity[0])).usingElementComparator(totalOrder(comparing(Entity::id)))
+                                             .containsExactlyInAnyOrder(values);
+  }
+
+  record Entity(int id, String name) {
+  }
+
+}
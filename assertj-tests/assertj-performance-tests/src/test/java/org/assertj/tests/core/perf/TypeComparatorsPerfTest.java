@@ -19,7 +19,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +50,26 @@ class TypeComparatorsPerfTest {
     System.out.println("execution time for " + total + " -> " + duration + "ms");
   }
 
+  // execution time for 1000000:
+  // before caching resolved comparators: ~1900ms
+  // with resolved comparators cached per type: ~250ms
+  @Disabled
+  @Test
+  void run_1_000_000_type_comparator_resolutions() {
+    long start = System.currentTimeMillis();
+    // GIVEN
+    int total = 1_000_000;
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    recursiveComparisonConfiguration.registerComparatorForType((CharSequence s1, CharSequence s2) -> 0, CharSequence.class);
+    List<Class<?>> types = List.of(String.class, StringBuilder.class, Integer.class, ArrayList.class, Instant.class);
+    // WHEN
+    for (int i = 0; i < total; i++) {
+      recursiveComparisonConfiguration.getComparatorForDualType(types.get(i % types.size()));
+    }
+    // THEN
+    long end = System.currentTimeMillis();
+    long duration = ChronoUnit.MILLIS.between(Instant.ofEpochMilli(start), Instant.ofEpochMilli(end));
+    System.out.println("execution time for " + total + " -> " + duration + "ms");
+  }
+
 }